@@ -0,0 +1,44 @@
+package com.institute.admin.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the stored message text from a contact form submission
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactFormBenchmark {
+
+    private final PublicController.ContactFormRequest minimal = new PublicController.ContactFormRequest(
+            "Jane Doe", "jane@example.com", null, null, "I would like to know more about your courses.", null);
+
+    private final PublicController.ContactFormRequest full = new PublicController.ContactFormRequest(
+            "Jane Doe", "jane@example.com", "+1 555 0100", "Enrollment",
+            "I would like to know more about the evening schedule and whether there is a discount for students. "
+                    + "I am also interested in the certification offered at the end of the course.",
+            "Full Stack Development");
+
+    @Benchmark
+    public String buildMinimalContent() {
+        return PublicController.buildMessageContent(minimal);
+    }
+
+    @Benchmark
+    public String buildFullContent() {
+        return PublicController.buildMessageContent(full);
+    }
+}
@@ -0,0 +1,68 @@
+package com.institute.benchmark;
+
+import com.institute.admin.model.Message;
+import com.institute.admin.repository.MessageRepository;
+import com.institute.admin.services.AdminService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of saving contact messages through AdminService, from one and from four threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class AddMessageBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private AdminService adminService;
+    private MessageRepository messageRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("messages");
+        adminService = context.getBean(AdminService.class);
+        messageRepository = context.getBean(MessageRepository.class);
+    }
+
+    /**
+     * Keeps the table from growing across iterations
+     */
+    @Setup(Level.Iteration)
+    public void clearMessages() {
+        messageRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Message addMessage() {
+        return adminService.addMessage(new Message("Jane Doe", "jane@example.com", "Subject: Enrollment\n\nMessage: Hello"));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Message addMessageContended() {
+        return adminService.addMessage(new Message("Jane Doe", "jane@example.com", "Subject: Enrollment\n\nMessage: Hello"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.institute.benchmark;
+
+import com.institute.InstituteBackendApplication;
+import com.institute.admin.model.Course;
+import com.institute.admin.model.Student;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Starts the application without a web server for benchmarks that go through the Spring beans,
+ * and generates detached courses for those that do not
+ */
+public final class BenchmarkApplication {
+
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced"};
+    private static final String[] CATEGORIES = {"Programming", "Data Science", "Design", "Business", "Languages"};
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts an empty application
+     *
+     * @param database Name of the in-memory H2 database, so forks never share data
+     */
+    public static ConfigurableApplicationContext start(String database) {
+        return start(database, 0);
+    }
+
+    /**
+     * Starts the application with {@code courses} synthetic courses, seeded by the
+     * {@code synthetic} profile's generator
+     */
+    public static ConfigurableApplicationContext start(String database, int courses) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(InstituteBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.level.root=WARN",
+                        "institute.ratelimit.contact.enabled=false",
+                        "institute.contact.ingestion.mode=sync");
+        if (courses > 0) {
+            builder.profiles("synthetic").properties(
+                    "institute.synthetic.students=0",
+                    "institute.synthetic.messages=0",
+                    "institute.synthetic.courses=" + courses);
+        }
+        return builder.run();
+    }
+
+    private static Course course(int index, Random random) {
+        Course course = new Course("Course " + index, "Generated course number " + index + " for benchmarking");
+        course.setDuration((4 + random.nextInt(20)) + " weeks");
+        course.setLevel(LEVELS[random.nextInt(LEVELS.length)]);
+        course.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        course.setPrice(Math.round(random.nextDouble() * 50_000) / 100.0);
+        course.setInstructor("Instructor " + random.nextInt(500));
+        course.setRating(Math.round((3 + random.nextDouble() * 2) * 10) / 10.0);
+        course.setStudentsEnrolled(random.nextInt(5_000));
+        return course;
+    }
+
+    /**
+     * Generated courses that are not persisted, with ids assigned
+     */
+    public static List<Course> detachedCourses(int count) {
+        Random random = new Random(42);
+        List<Course> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Course course = course(i, random);
+            course.setId((long) i + 1);
+            courses.add(course);
+        }
+        return courses;
+    }
+
+    /**
+     * Generated students that are not persisted, with ids assigned
+     */
+    public static List<Student> detachedStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student student = new Student("Student " + i, "student" + i + "@example.com");
+            student.setId((long) i + 1);
+            students.add(student);
+        }
+        return students;
+    }
+}
@@ -0,0 +1,78 @@
+package com.institute.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.institute.admin.model.Course;
+import com.institute.admin.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of JSON against CBOR and Smile for bulk course and student responses.
+ *
+ * The binary mappers are copies of the JSON mapper with the factory swapped,
+ * as in the application's converters. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BinaryFormatBenchmark {
+
+    @Param({"student", "course"})
+    public String entity;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private List<?> payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        boolean students = entity.equals("student");
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, students ? Student.class : Course.class);
+        payload = students ? BenchmarkApplication.detachedStudents(rows) : BenchmarkApplication.detachedCourses(rows);
+        encoded = objectMapper.writeValueAsBytes(payload);
+        System.out.printf("%n%s x %d as %s: %d bytes%n", entity, rows, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public List<?> decode() throws IOException {
+        return objectMapper.readValue(encoded, listType);
+    }
+}
@@ -0,0 +1,75 @@
+package com.institute.benchmark;
+
+import com.institute.admin.cache.CourseCatalogCache;
+import com.institute.admin.model.Course;
+import com.institute.admin.services.AdminService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdminService course reads against an H2 catalog of 10, 10k and 1M courses,
+ * both through the catalog cache and with the cache emptied before each call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CourseCatalogBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private AdminService adminService;
+    private CourseCatalogCache courseCatalogCache;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("catalog" + catalogSize, catalogSize);
+        adminService = context.getBean(AdminService.class);
+        courseCatalogCache = context.getBean(CourseCatalogCache.class);
+        firstId = adminService.getCoursePage(null, 1).getItems().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Course> getAllCoursesCached() {
+        return adminService.getAllCourses();
+    }
+
+    @Benchmark
+    public List<Course> getAllCoursesUncached() {
+        courseCatalogCache.invalidateAll();
+        return adminService.getAllCourses();
+    }
+
+    @Benchmark
+    public Optional<Course> getCourseById() {
+        // Uniform over the catalog, so large catalogs also exercise cache misses
+        return adminService.getCourseById(firstId + ThreadLocalRandom.current().nextInt(catalogSize));
+    }
+}
@@ -0,0 +1,59 @@
+package com.institute.admin.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the course catalog, bumped after every course write.
+ *
+ * ETags are derived from it, so a conditional GET can be answered without
+ * loading or serializing anything. The process start time is part of the tag
+ * so that versions from before a restart are never mistaken for current ones.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Current version; read it before loading catalog data so that a response
+     * is never tagged with a version newer than its content
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Marks the catalog as changed
+     *
+     * @return The new version
+     */
+    public long increment() {
+        return version.incrementAndGet();
+    }
+
+    /**
+     * Strong ETag for the full catalog at the current version
+     */
+    public String catalogETag() {
+        return "\"catalog-" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * Strong ETag for one representation of the catalog at a given version
+     *
+     * @param variant Distinguishes representations of the same version (view and content coding)
+     */
+    public String catalogETag(long version, String variant) {
+        return "\"catalog-" + epoch + "-" + version + "-" + variant + "\"";
+    }
+
+    /**
+     * Strong ETag for a single course at the current version
+     */
+    public String courseETag(Long id) {
+        return "\"course-" + id + "-" + epoch + "-" + version.get() + "\"";
+    }
+}
@@ -0,0 +1,154 @@
+package com.institute.admin.cache;
+
+import com.institute.admin.dto.CourseSummary;
+import com.institute.admin.model.Course;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for the course catalog.
+ *
+ * Loaders are supplied by the caller (normally the repository), and Caffeine
+ * runs at most one loader per key at a time: concurrent misses for the same key
+ * wait for that single load instead of each querying the database. Lookups of
+ * missing ids are cached as empty so repeated 404s do not reach the database
+ * either. Entries are evicted by size and age, and writes invalidate exactly the
+ * affected id plus the full-catalog and summary-catalog entries.
+ */
+@Component
+public class CourseCatalogCache {
+
+    private static final String ALL_COURSES = "all";
+
+    private final Cache<Long, Optional<Course>> coursesById;
+    private final Cache<String, List<Course>> catalog;
+    private final Cache<String, List<CourseSummary>> summaries;
+
+    @Autowired
+    public CourseCatalogCache(@Value("${institute.cache.courses.maximum-size:10000}") long maximumSize,
+                              @Value("${institute.cache.courses.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.coursesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.catalog = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the full catalog, loading it once on a miss
+     */
+    public List<Course> getAllCourses(Supplier<List<Course>> loader) {
+        return catalog.get(ALL_COURSES, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Returns the catalog as summaries, loading it once on a miss
+     */
+    public List<CourseSummary> getCourseSummaries(Supplier<List<CourseSummary>> loader) {
+        return summaries.get(ALL_COURSES, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Returns one course, loading it once on a miss
+     */
+    public Optional<Course> getCourseById(Long id, Function<Long, Optional<Course>> loader) {
+        return coursesById.get(id, loader);
+    }
+
+    /**
+     * Returns the cached courses for the given ids, loading every miss with a
+     * single call to {@code bulkLoader}. Ids that do not exist are absent from the result.
+     */
+    public Map<Long, Course> getCourses(Collection<Long> ids, Function<Set<Long>, Collection<Course>> bulkLoader) {
+        Map<Long, Optional<Course>> cached = coursesById.getAll(ids, missing -> {
+            Map<Long, Optional<Course>> loaded = new HashMap<>();
+            for (Long id : missing) {
+                loaded.put(id, Optional.empty());
+            }
+            for (Course course : bulkLoader.apply(Set.copyOf(missing))) {
+                loaded.put(course.getId(), Optional.of(course));
+            }
+            return loaded;
+        });
+        Map<Long, Course> result = new HashMap<>();
+        cached.forEach((id, course) -> course.ifPresent(c -> result.put(id, c)));
+        return result;
+    }
+
+    /**
+     * Drops a course and both catalog entries after a write.
+     *
+     * The catalog entries are invalidated by key: that waits for a catalog load
+     * already in flight and then removes its result, which may have been read
+     * before the write committed. {@code invalidateAll()} gives no such
+     * guarantee for entries that are still loading.
+     */
+    public void invalidate(Long id) {
+        catalog.invalidate(ALL_COURSES);
+        summaries.invalidate(ALL_COURSES);
+        if (id != null) {
+            coursesById.invalidate(id);
+        }
+    }
+
+    /**
+     * Drops everything
+     */
+    public void invalidateAll() {
+        catalog.invalidate(ALL_COURSES);
+        summaries.invalidate(ALL_COURSES);
+        coursesById.invalidateAll();
+    }
+
+    /**
+     * Hit, miss, load and eviction statistics for both caches
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("coursesById", describe(coursesById.stats(), coursesById.estimatedSize()));
+        stats.put("catalog", describe(catalog.stats(), catalog.estimatedSize()));
+        stats.put("summaries", describe(summaries.stats(), summaries.estimatedSize()));
+        return stats;
+    }
+
+    private static Map<String, Object> describe(CacheStats stats, long size) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", size);
+        description.put("hitCount", stats.hitCount());
+        description.put("missCount", stats.missCount());
+        description.put("hitRate", stats.hitRate());
+        description.put("loadSuccessCount", stats.loadSuccessCount());
+        description.put("loadFailureCount", stats.loadFailureCount());
+        description.put("totalLoadTimeMs", stats.totalLoadTime() / 1_000_000.0);
+        description.put("averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000.0);
+        description.put("evictionCount", stats.evictionCount());
+        return description;
+    }
+}
@@ -1,16 +1,34 @@
 package com.institute.admin.controller;
 
+import com.institute.admin.dto.CourseImportResult;
+import com.institute.admin.dto.CourseView;
+import com.institute.admin.dto.CursorPage;
+import com.institute.admin.dto.FieldSelection;
+import com.institute.admin.ingest.MessageIngestionQueue;
 import com.institute.admin.model.Course;
 import com.institute.admin.model.Student;
 import com.institute.admin.model.Message;
+import com.institute.admin.ratelimit.ContactRateLimiter;
 import com.institute.admin.services.AdminService;
+import com.institute.admin.services.CourseImportService;
+import com.institute.admin.services.DataExportService;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -19,21 +37,52 @@ import java.util.Optional;
 public class AdminController {
 
     private final AdminService adminService;
+    private final DataExportService dataExportService;
+    private final CourseImportService courseImportService;
+    private final MessageIngestionQueue messageIngestionQueue;
+    private final ContactRateLimiter contactRateLimiter;
 
     @Autowired
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, DataExportService dataExportService,
+                           CourseImportService courseImportService, MessageIngestionQueue messageIngestionQueue,
+                           ContactRateLimiter contactRateLimiter) {
         this.adminService = adminService;
+        this.dataExportService = dataExportService;
+        this.courseImportService = courseImportService;
+        this.messageIngestionQueue = messageIngestionQueue;
+        this.contactRateLimiter = contactRateLimiter;
     }
 
     // ---------------- Course Endpoints ----------------
 
     /**
      * GET /admin/courses - Retrieve all courses
+     * GET /admin/courses?after={cursor}&limit=N - Retrieve one keyset page of courses
+     * Either form accepts view=summary for id, name, level, category, price and rating only,
+     * or fields=name,price,... for the id and the listed columns only
      */
     @GetMapping("/courses")
-    public ResponseEntity<List<Course>> getAllCourses() {
-        List<Course> courses = adminService.getAllCourses();
-        return ResponseEntity.ok(courses);
+    public ResponseEntity<?> getAllCourses(@RequestParam(required = false) String after,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) String view,
+                                           @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                if (view != null) {
+                    return ResponseEntity.badRequest().build();
+                }
+                return getSparse(Course.class, selection, after, limit);
+            }
+            boolean summary = CourseView.parse(view) == CourseView.SUMMARY;
+            if (after == null && limit == null) {
+                return ResponseEntity.ok(summary ? adminService.getCourseSummaries() : adminService.getAllCourses());
+            }
+            CursorPage<?> page = summary ? adminService.getCourseSummaryPage(after, limit) : adminService.getCoursePage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -49,11 +98,44 @@ public class AdminController {
         }
     }
 
+    /**
+     * POST /admin/courses/import - Create courses in bulk from a JSON array
+     */
+    @PostMapping(value = "/courses/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CourseImportResult> importCourses(InputStream body) {
+        try {
+            return ResponseEntity.ok(courseImportService.importJson(body));
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * POST /admin/courses/import - Create courses in bulk from CSV with a header row
+     */
+    @PostMapping(value = "/courses/import", consumes = "text/csv")
+    public ResponseEntity<CourseImportResult> importCoursesCsv(Reader body) {
+        try {
+            return ResponseEntity.ok(courseImportService.importCsv(body));
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * GET /admin/courses/{id} - Retrieve a specific course by ID
+     * GET /admin/courses/{id}?fields=... - Only the id and the listed columns
      */
     @GetMapping("/courses/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<?> getCourseById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                return ResponseEntity.of(adminService.getSparseRow(Course.class, selection, id));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
         Optional<Course> course = adminService.getCourseById(id);
         return course.map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
@@ -89,18 +171,57 @@ public class AdminController {
 
     /**
      * GET /admin/students - Retrieve all students
+     * GET /admin/students?after={cursor}&limit=N - Retrieve one keyset page of students
+     * Either form accepts fields=name,email,... for the id and the listed columns only
      */
     @GetMapping("/students")
-    public ResponseEntity<List<Student>> getAllStudents() {
-        List<Student> students = adminService.getAllStudents();
-        return ResponseEntity.ok(students);
+    public ResponseEntity<?> getAllStudents(@RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                return getSparse(Student.class, selection, after, limit);
+            }
+            if (after == null && limit == null) {
+                List<Student> students = adminService.getAllStudents();
+                return ResponseEntity.ok(students);
+            }
+            CursorPage<Student> page = adminService.getStudentPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /admin/students/export?format=ndjson|csv - Stream every student
+     */
+    @GetMapping("/students/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(@RequestParam(defaultValue = "ndjson") String format,
+                                                                HttpServletRequest request) {
+        try {
+            DataExportService.Format exportFormat = DataExportService.Format.fromParameter(format);
+            return export(request, "students", exportFormat, out -> dataExportService.exportStudents(out, exportFormat));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
      * GET /admin/students/{id} - Retrieve a specific student by ID
+     * GET /admin/students/{id}?fields=... - Only the id and the listed columns
      */
     @GetMapping("/students/{id}")
-    public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
+    public ResponseEntity<?> getStudentById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                return ResponseEntity.of(adminService.getSparseRow(Student.class, selection, id));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
         Optional<Student> student = adminService.getStudentById(id);
         return student.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
@@ -110,20 +231,105 @@ public class AdminController {
 
     /**
      * GET /admin/messages - Retrieve all messages
+     * GET /admin/messages?after={cursor}&limit=N - Retrieve one keyset page of messages
+     * Either form accepts fields=senderName,email,... for the id and the listed columns only
      */
     @GetMapping("/messages")
-    public ResponseEntity<List<Message>> getAllMessages() {
-        List<Message> messages = adminService.getAllMessages();
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<?> getAllMessages(@RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                return getSparse(Message.class, selection, after, limit);
+            }
+            if (after == null && limit == null) {
+                List<Message> messages = adminService.getAllMessages();
+                return ResponseEntity.ok(messages);
+            }
+            CursorPage<Message> page = adminService.getMessagePage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * GET /admin/messages/export?format=ndjson|csv - Stream every message
+     */
+    @GetMapping("/messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(@RequestParam(defaultValue = "ndjson") String format,
+                                                                HttpServletRequest request) {
+        try {
+            DataExportService.Format exportFormat = DataExportService.Format.fromParameter(format);
+            return export(request, "messages", exportFormat, out -> dataExportService.exportMessages(out, exportFormat));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
      * GET /admin/messages/{id} - Retrieve a specific message by ID
+     * GET /admin/messages/{id}?fields=... - Only the id and the listed columns
      */
     @GetMapping("/messages/{id}")
-    public ResponseEntity<Message> getMessageById(@PathVariable Long id) {
+    public ResponseEntity<?> getMessageById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                return ResponseEntity.of(adminService.getSparseRow(Message.class, selection, id));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
         Optional<Message> message = adminService.getMessageById(id);
         return message.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+
+    /**
+     * GET /admin/messages/ingestion/stats - Queue depth, batch size and commit latency of contact-form ingestion
+     */
+    @GetMapping("/messages/ingestion/stats")
+    public ResponseEntity<Map<String, Object>> getIngestionStats() {
+        return ResponseEntity.ok(messageIngestionQueue.getStats());
+    }
+
+    /**
+     * GET /admin/messages/ratelimit/stats - Contact form rate limiter decisions and tracked clients
+     */
+    @GetMapping("/messages/ratelimit/stats")
+    public ResponseEntity<Map<String, Object>> getRateLimitStats() {
+        return ResponseEntity.ok(contactRateLimiter.getStats());
+    }
+
+    // ---------------- Cache Endpoints ----------------
+
+    /**
+     * GET /admin/cache/stats - Hit, miss and load-time statistics of the course catalog cache
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(adminService.getCourseCacheStats());
+    }
+
+    // Lists or pages the selected columns of an entity, like the whole-entity list endpoints
+    private ResponseEntity<?> getSparse(Class<?> entityClass, FieldSelection selection, String after, Integer limit) {
+        if (after == null && limit == null) {
+            return ResponseEntity.ok(adminService.getSparseRows(entityClass, selection));
+        }
+        return ResponseEntity.ok(adminService.getSparsePage(entityClass, selection, after, limit));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> export(HttpServletRequest request, String name,
+                                                                DataExportService.Format format, StreamingResponseBody body) {
+        request.setAttribute(DataExportService.EXPORT_REQUEST_ATTRIBUTE, Boolean.TRUE);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
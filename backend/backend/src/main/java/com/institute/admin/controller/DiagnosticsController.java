@@ -0,0 +1,73 @@
+package com.institute.admin.controller;
+
+import com.institute.admin.monitoring.HibernateDiagnostics;
+import com.institute.admin.monitoring.SqlStatementMetrics;
+import com.institute.admin.storage.StorageMaintenance;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/diagnostics")
+@CrossOrigin(origins = "http://localhost:4200")
+public class DiagnosticsController {
+
+    private static final int DEFAULT_SQL_LIMIT = 50;
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+    private final HibernateDiagnostics hibernateDiagnostics;
+    private final ObjectProvider<StorageMaintenance> storageMaintenance;
+
+    @Autowired
+    public DiagnosticsController(SqlStatementMetrics sqlStatementMetrics, HibernateDiagnostics hibernateDiagnostics,
+                                 ObjectProvider<StorageMaintenance> storageMaintenance) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+        this.hibernateDiagnostics = hibernateDiagnostics;
+        this.storageMaintenance = storageMaintenance;
+    }
+
+    /**
+     * GET /admin/diagnostics/sql?limit=N - SQL fingerprints by total execution time
+     */
+    @GetMapping("/sql")
+    public ResponseEntity<Map<String, Object>> getSqlStatements(@RequestParam(required = false) Integer limit) {
+        if (limit != null && limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(sqlStatementMetrics.getSummary(limit == null ? DEFAULT_SQL_LIMIT : limit));
+    }
+
+    /**
+     * GET /admin/diagnostics/hibernate - Session, entity, query and second-level cache statistics
+     */
+    @GetMapping("/hibernate")
+    public ResponseEntity<Map<String, Object>> getHibernateStatistics() {
+        return ResponseEntity.ok(hibernateDiagnostics.getStatistics());
+    }
+
+    /**
+     * GET /admin/diagnostics/storage - Database file, startup timings and last compaction (persistent profile only)
+     */
+    @GetMapping("/storage")
+    public ResponseEntity<Map<String, Object>> getStorage() {
+        StorageMaintenance maintenance = storageMaintenance.getIfAvailable();
+        if (maintenance == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(maintenance.getStats());
+    }
+
+    /**
+     * DELETE /admin/diagnostics/statistics - Reset the SQL aggregates and Hibernate statistics
+     */
+    @DeleteMapping("/statistics")
+    public ResponseEntity<Void> resetStatistics() {
+        sqlStatementMetrics.reset();
+        hibernateDiagnostics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.institute.admin.controller;
+
+import com.institute.admin.dto.ApiPerformanceBatch;
+import com.institute.admin.dto.ClientErrorBatch;
+import com.institute.admin.dto.PerformanceReportBatch;
+import com.institute.admin.monitoring.ApiLatencyAggregator;
+import com.institute.admin.monitoring.ClientErrorAggregator;
+import com.institute.admin.monitoring.RealUserMetricsStore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/monitoring")
+@CrossOrigin(origins = {"http://localhost:4300", "http://localhost:4200"})
+public class MonitoringController {
+
+    private final ClientErrorAggregator clientErrorAggregator;
+    private final RealUserMetricsStore realUserMetricsStore;
+    private final ApiLatencyAggregator apiLatencyAggregator;
+
+    @Autowired
+    public MonitoringController(ClientErrorAggregator clientErrorAggregator, RealUserMetricsStore realUserMetricsStore,
+                                ApiLatencyAggregator apiLatencyAggregator) {
+        this.clientErrorAggregator = clientErrorAggregator;
+        this.realUserMetricsStore = realUserMetricsStore;
+        this.apiLatencyAggregator = apiLatencyAggregator;
+    }
+
+    // ---------------- Client Error Endpoints ----------------
+
+    /**
+     * POST /api/monitoring/errors/batch - Queue a batch of browser errors for aggregation
+     */
+    @PostMapping("/errors/batch")
+    public ResponseEntity<Map<String, Object>> submitErrors(@RequestBody ClientErrorBatch batch) {
+        int received = batch.getErrors() == null ? 0 : batch.getErrors().size();
+        int accepted = clientErrorAggregator.submit(batch.getErrors());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("accepted", accepted);
+        response.put("dropped", received - accepted);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * GET /api/monitoring/errors/summary - Per-minute error counts and the most frequent recent errors
+     */
+    @GetMapping("/errors/summary")
+    public ResponseEntity<Map<String, Object>> getErrorSummary() {
+        return ResponseEntity.ok(clientErrorAggregator.getSummary());
+    }
+
+    // ---------------- Real-User Performance Endpoints ----------------
+
+    /**
+     * POST /api/monitoring/performance/batch - Record page timing metrics into the percentile histograms
+     */
+    @PostMapping("/performance/batch")
+    public ResponseEntity<Map<String, Object>> submitPerformanceReports(@RequestBody PerformanceReportBatch batch) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("recorded", realUserMetricsStore.record(batch.getReports()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * GET /api/monitoring/performance/percentiles?url=&metric= - p50, p95 and p99 per metric,
+     * for one URL path or merged over all of them
+     */
+    @GetMapping("/performance/percentiles")
+    public ResponseEntity<Map<String, Object>> getPerformancePercentiles(@RequestParam(required = false) String url,
+                                                                         @RequestParam(required = false) String metric) {
+        return ResponseEntity.ok(realUserMetricsStore.getPercentiles(url, metric));
+    }
+
+    // ---------------- API Performance Endpoints ----------------
+
+    /**
+     * POST /api/monitoring/api-performance - Record one client-observed API response time
+     */
+    @PostMapping("/api-performance")
+    public ResponseEntity<Map<String, Object>> submitApiPerformanceReport(@RequestBody ApiPerformanceBatch.Report report) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("recorded", apiLatencyAggregator.recordClient(report) ? 1 : 0);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * POST /api/monitoring/api-performance/batch - Record a batch of client-observed API response times
+     */
+    @PostMapping("/api-performance/batch")
+    public ResponseEntity<Map<String, Object>> submitApiPerformanceReports(@RequestBody ApiPerformanceBatch batch) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("recorded", apiLatencyAggregator.recordClient(batch.getReports()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * GET /api/monitoring/api-performance/summary - Client vs server latency percentiles per endpoint
+     */
+    @GetMapping("/api-performance/summary")
+    public ResponseEntity<Map<String, Object>> getApiPerformanceSummary() {
+        return ResponseEntity.ok(apiLatencyAggregator.getSummary());
+    }
+}
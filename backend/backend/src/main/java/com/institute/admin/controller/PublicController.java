@@ -1,15 +1,34 @@
 package com.institute.admin.controller;
 
+import com.institute.admin.dto.CourseBatchResult;
+import com.institute.admin.dto.CourseView;
+import com.institute.admin.dto.FacetedCourseResult;
+import com.institute.admin.dto.FieldSelection;
+import com.institute.admin.ingest.MessageIngestionQueue;
 import com.institute.admin.model.Course;
 import com.institute.admin.model.Message;
+import com.institute.admin.ratelimit.ContactRateLimiter;
+import com.institute.admin.search.CourseFacetIndex.Facet;
 import com.institute.admin.services.AdminService;
+import com.institute.admin.services.CatalogResponseService;
+import com.institute.admin.services.CatalogResponseService.CatalogResponse;
+import com.institute.admin.services.InstituteInfoService;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Map;
 import java.util.HashMap;
@@ -19,37 +38,208 @@ import java.util.HashMap;
 @CrossOrigin(origins = {"http://localhost:4300", "http://localhost:4200"})
 public class PublicController {
 
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     private final AdminService adminService;
+    private final InstituteInfoService instituteInfoService;
+    private final MessageIngestionQueue messageIngestionQueue;
+    private final ContactRateLimiter contactRateLimiter;
+    private final CatalogResponseService catalogResponseService;
+    private final int maxBatchIds;
 
     @Autowired
-    public PublicController(AdminService adminService) {
+    public PublicController(AdminService adminService, InstituteInfoService instituteInfoService,
+                            MessageIngestionQueue messageIngestionQueue, ContactRateLimiter contactRateLimiter,
+                            CatalogResponseService catalogResponseService,
+                            @Value("${institute.catalog.batch.max-ids:100}") int maxBatchIds) {
         this.adminService = adminService;
+        this.instituteInfoService = instituteInfoService;
+        this.messageIngestionQueue = messageIngestionQueue;
+        this.contactRateLimiter = contactRateLimiter;
+        this.catalogResponseService = catalogResponseService;
+        this.maxBatchIds = maxBatchIds;
     }
 
     // ---------------- Public Course Endpoints ----------------
 
     /**
      * GET /api/public/courses - Retrieve all courses for public viewing
+     * GET /api/public/courses?view=summary - Only id, name, level, category, price and rating
+     * GET /api/public/courses?fields=name,price,... - Only the id and the listed columns, read as such
+     * Whole and summary bodies are written from bytes serialized and compressed once per
+     * catalog change, in the best encoding allowed by Accept-Encoding
      */
     @GetMapping("/courses")
-    public ResponseEntity<List<Course>> getAllCourses() {
+    public ResponseEntity<?> getAllCourses(@RequestParam(required = false) String view,
+                                           @RequestParam(required = false) String fields, WebRequest request) {
+        try {
+            CourseView courseView = CourseView.parse(view);
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null) {
+                return view == null ? getSparseCourses(selection, request) : ResponseEntity.badRequest().build();
+            }
+            CatalogResponse catalog = catalogResponseService.getCatalog(courseView, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            if (request.checkNotModified(catalog.getETag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalog.getETag())
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+            }
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(catalog.getETag())
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (catalog.getContentEncoding() != null) {
+                response.header(HttpHeaders.CONTENT_ENCODING, catalog.getContentEncoding());
+            }
+            return response.body(catalog.getBody());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ResponseEntity<List<Map<String, Object>>> getSparseCourses(FieldSelection selection, WebRequest request) {
+        // Read the tag before the data so a response is never tagged newer than its content
+        String etag = adminService.getCatalogETag("fields-" + selection.key());
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        List<Map<String, Object>> courses = adminService.getSparseRows(Course.class, selection);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(courses);
+    }
+
+    /**
+     * GET /api/public/courses?ids=1,5,9 - Retrieve several courses in one request, in the order given,
+     * with the ids that do not exist; at most institute.catalog.batch.max-ids ids
+     */
+    @GetMapping(value = "/courses", params = "ids")
+    public ResponseEntity<CourseBatchResult> getCoursesByIds(@RequestParam List<Long> ids, WebRequest request) {
+        if (ids.isEmpty() || ids.size() > maxBatchIds || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            // Read the tag before the data so a response is never tagged newer than its content
+            String etag = adminService.getCatalogETag("batch");
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            CourseBatchResult result = adminService.getCoursesByIds(ids);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /api/public/courses with Accept: application/cbor - The catalog as CBOR, for internal consumers
+     * Accepts view=summary or fields=name,price,... as the JSON form does
+     */
+    @GetMapping(value = "/courses", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<List<?>> getAllCoursesCbor(@RequestParam(required = false) String view,
+                                                     @RequestParam(required = false) String fields, WebRequest request) {
+        return getAllCoursesBinary(view, fields, "cbor", request);
+    }
+
+    /**
+     * GET /api/public/courses with Accept: application/x-jackson-smile - The catalog as Smile, for internal consumers
+     * Accepts view=summary or fields=name,price,... as the JSON form does
+     */
+    @GetMapping(value = "/courses", produces = APPLICATION_SMILE_VALUE)
+    public ResponseEntity<List<?>> getAllCoursesSmile(@RequestParam(required = false) String view,
+                                                      @RequestParam(required = false) String fields, WebRequest request) {
+        return getAllCoursesBinary(view, fields, "smile", request);
+    }
+
+    private ResponseEntity<List<?>> getAllCoursesBinary(String view, String fields, String format, WebRequest request) {
         try {
-            List<Course> courses = adminService.getAllCourses();
+            CourseView courseView = CourseView.parse(view);
+            FieldSelection selection = FieldSelection.parse(fields);
+            if (selection != null && view != null) {
+                return ResponseEntity.badRequest().build();
+            }
+            String variant = selection != null ? "fields-" + selection.key() : courseView.name().toLowerCase(Locale.ROOT);
+            // Read the tag before the data so a response is never tagged newer than its content
+            String etag = adminService.getCatalogETag(variant + "-" + format);
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            List<?> courses;
+            if (selection != null) {
+                courses = adminService.getSparseRows(Course.class, selection);
+            } else {
+                courses = courseView == CourseView.SUMMARY ? adminService.getCourseSummaries() : adminService.getAllCourses();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(courses);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * GET /api/public/courses/search?q= - Full-text search over the course catalog
+     */
+    @GetMapping("/courses/search")
+    public ResponseEntity<List<Course>> searchCourses(@RequestParam String q,
+                                                      @RequestParam(required = false) Integer limit) {
+        try {
+            List<Course> courses = adminService.searchCourses(q, limit);
             return ResponseEntity.ok(courses);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * GET /api/public/courses/facets - Filter courses by level, category, price and rating band,
+     * returning one page of matches plus the count for every facet value
+     */
+    @GetMapping("/courses/facets")
+    public ResponseEntity<FacetedCourseResult> getFacetedCourses(@RequestParam(required = false) List<String> level,
+                                                                 @RequestParam(required = false) List<String> category,
+                                                                 @RequestParam(required = false) List<String> price,
+                                                                 @RequestParam(required = false) List<String> rating,
+                                                                 @RequestParam(required = false) Integer page,
+                                                                 @RequestParam(required = false) Integer size) {
+        try {
+            Map<Facet, List<String>> filters = new EnumMap<>(Facet.class);
+            filters.put(Facet.LEVEL, level);
+            filters.put(Facet.CATEGORY, category);
+            filters.put(Facet.PRICE, price);
+            filters.put(Facet.RATING, rating);
+            return ResponseEntity.ok(adminService.getFacetedCourses(filters, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * GET /api/public/courses/{id} - Retrieve a specific course by ID for public viewing
+     * GET /api/public/courses/{id}?fields=name,price,... - Only the id and the listed columns
      */
     @GetMapping("/courses/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<?> getCourseById(@PathVariable Long id, @RequestParam(required = false) String fields,
+                                           WebRequest request) {
         try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            String etag = adminService.getCourseETag(id);
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            if (selection != null) {
+                return adminService.getSparseRow(Course.class, selection, id)
+                        .map(c -> ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(c))
+                        .orElse(ResponseEntity.notFound().build());
+            }
             Optional<Course> course = adminService.getCourseById(id);
-            return course.map(ResponseEntity::ok)
+            return course.map(c -> ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(c))
                         .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -59,11 +249,24 @@ public class PublicController {
 
     /**
      * POST /api/public/contact - Submit a contact form message
+     * Answers 202 when messages are ingested asynchronously, and 429 if the client is
+     * over its rate limit or the ingestion queue is full
      */
     @PostMapping("/contact")
-    public ResponseEntity<Map<String, Object>> submitContactForm(@RequestBody ContactFormRequest request) {
+    public ResponseEntity<Map<String, Object>> submitContactForm(@RequestBody ContactFormRequest request,
+                                                                 HttpServletRequest httpRequest) {
         Map<String, Object> response = new HashMap<>();
-        
+
+        // Rate limit before any validation or database work
+        long retryAfterMillis = contactRateLimiter.acquire(httpRequest.getRemoteAddr(), request.getEmail());
+        if (retryAfterMillis > 0) {
+            response.put("success", false);
+            response.put("message", "Too many messages. Please try again later.");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000))
+                    .body(response);
+        }
+
         try {
             // Validate required fields
             if (request.getName() == null || request.getName().trim().isEmpty()) {
@@ -84,21 +287,22 @@ public class PublicController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // Create message content with additional fields
-            StringBuilder messageContent = new StringBuilder();
-            messageContent.append("Subject: ").append(request.getSubject() != null ? request.getSubject() : "General Inquiry").append("\n\n");
-            messageContent.append("Message: ").append(request.getMessage()).append("\n\n");
-            
-            if (request.getPhone() != null && !request.getPhone().trim().isEmpty()) {
-                messageContent.append("Phone: ").append(request.getPhone()).append("\n");
-            }
-            
-            if (request.getCourseInterest() != null && !request.getCourseInterest().trim().isEmpty()) {
-                messageContent.append("Course Interest: ").append(request.getCourseInterest()).append("\n");
+            Message message = new Message(request.getName(), request.getEmail(), buildMessageContent(request));
+
+            // Async ingestion: validate here, let the background writer save it
+            if (messageIngestionQueue.isAsync()) {
+                adminService.validateMessage(message);
+                if (!messageIngestionQueue.offer(message)) {
+                    response.put("success", false);
+                    response.put("message", "We are receiving a large number of messages. Please try again shortly.");
+                    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+                }
+                response.put("success", true);
+                response.put("message", "Thank you for your message. We will get back to you soon!");
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
             }
 
             // Create and save message
-            Message message = new Message(request.getName(), request.getEmail(), messageContent.toString());
             adminService.addMessage(message);
 
             response.put("success", true);
@@ -112,41 +316,35 @@ public class PublicController {
         }
     }
 
+    /**
+     * Message content with the additional contact form fields
+     */
+    static String buildMessageContent(ContactFormRequest request) {
+        StringBuilder messageContent = new StringBuilder();
+        messageContent.append("Subject: ").append(request.getSubject() != null ? request.getSubject() : "General Inquiry").append("\n\n");
+        messageContent.append("Message: ").append(request.getMessage()).append("\n\n");
+
+        if (request.getPhone() != null && !request.getPhone().trim().isEmpty()) {
+            messageContent.append("Phone: ").append(request.getPhone()).append("\n");
+        }
+
+        if (request.getCourseInterest() != null && !request.getCourseInterest().trim().isEmpty()) {
+            messageContent.append("Course Interest: ").append(request.getCourseInterest()).append("\n");
+        }
+        return messageContent.toString();
+    }
+
     // ---------------- Institute Information Endpoints ----------------
 
     /**
      * GET /api/public/institute-info - Get basic institute information
      */
     @GetMapping("/institute-info")
-    public ResponseEntity<Map<String, Object>> getInstituteInfo() {
+    public ResponseEntity<byte[]> getInstituteInfo() {
         try {
-            Map<String, Object> instituteInfo = new HashMap<>();
-            
-            // Basic institute information
-            instituteInfo.put("name", "Excellence Institute");
-            instituteInfo.put("tagline", "Empowering Minds, Shaping Futures");
-            instituteInfo.put("description", "A premier educational institution dedicated to providing quality education and fostering innovation.");
-            instituteInfo.put("mission", "To provide world-class education and create leaders of tomorrow through innovative teaching methods and comprehensive skill development.");
-            instituteInfo.put("vision", "To be the leading educational institution that transforms lives and contributes to society's progress.");
-            
-            // Contact information
-            Map<String, Object> contactInfo = new HashMap<>();
-            contactInfo.put("email", "info@excellenceinstitute.com");
-            contactInfo.put("phone", "+1 (555) 123-4567");
-            contactInfo.put("address", "123 Education Street, Learning City, LC 12345");
-            contactInfo.put("officeHours", "Monday - Friday: 9:00 AM - 6:00 PM");
-            instituteInfo.put("contactInfo", contactInfo);
-            
-            // Statistics
-            Map<String, Object> statistics = new HashMap<>();
-            statistics.put("totalStudents", 1500);
-            statistics.put("totalCourses", adminService.getAllCourses().size());
-            statistics.put("yearsOfExperience", 15);
-            statistics.put("successRate", 95);
-            instituteInfo.put("statistics", statistics);
-            
-            return ResponseEntity.ok(instituteInfo);
-            
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(instituteInfoService.getInstituteInfoJson());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -0,0 +1,60 @@
+package com.institute.admin.dto;
+
+import java.util.List;
+
+/**
+ * Batch of client-observed API timings as posted by the public website's monitoring service
+ */
+public class ApiPerformanceBatch {
+
+    private List<Report> reports;
+    private String timestamp;
+
+    // Getters
+    public List<Report> getReports() { return reports; }
+    public String getTimestamp() { return timestamp; }
+
+    // Setters
+    public void setReports(List<Report> reports) { this.reports = reports; }
+    public void setTimestamp(String timestamp) { this.timestamp = timestamp; }
+
+    /**
+     * One API call as seen by the browser; responseTime is in milliseconds, status 0 means no response
+     */
+    public static class Report {
+        private String endpoint;
+        private Double responseTime;
+        private Integer status;
+        private Boolean success;
+        private String timestamp;
+        private String sessionId;
+        private String version;
+
+        public Report() {}
+
+        public Report(String endpoint, Double responseTime, Integer status, Boolean success) {
+            this.endpoint = endpoint;
+            this.responseTime = responseTime;
+            this.status = status;
+            this.success = success;
+        }
+
+        // Getters
+        public String getEndpoint() { return endpoint; }
+        public Double getResponseTime() { return responseTime; }
+        public Integer getStatus() { return status; }
+        public Boolean getSuccess() { return success; }
+        public String getTimestamp() { return timestamp; }
+        public String getSessionId() { return sessionId; }
+        public String getVersion() { return version; }
+
+        // Setters
+        public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+        public void setResponseTime(Double responseTime) { this.responseTime = responseTime; }
+        public void setStatus(Integer status) { this.status = status; }
+        public void setSuccess(Boolean success) { this.success = success; }
+        public void setTimestamp(String timestamp) { this.timestamp = timestamp; }
+        public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+        public void setVersion(String version) { this.version = version; }
+    }
+}
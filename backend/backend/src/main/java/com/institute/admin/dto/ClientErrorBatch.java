@@ -0,0 +1,57 @@
+package com.institute.admin.dto;
+
+import java.util.List;
+
+/**
+ * Batch of browser errors as posted by the public website's monitoring service
+ */
+public class ClientErrorBatch {
+
+    private List<Report> errors;
+    private String timestamp;
+
+    // Getters
+    public List<Report> getErrors() { return errors; }
+    public String getTimestamp() { return timestamp; }
+
+    // Setters
+    public void setErrors(List<Report> errors) { this.errors = errors; }
+    public void setTimestamp(String timestamp) { this.timestamp = timestamp; }
+
+    /**
+     * One error report; fields the backend does not aggregate on are ignored
+     */
+    public static class Report {
+        private String message;
+        private String stack;
+        private String url;
+        private String severity;
+        private String version;
+        private String sessionId;
+
+        public Report() {}
+
+        public Report(String message, String stack, String url, String severity) {
+            this.message = message;
+            this.stack = stack;
+            this.url = url;
+            this.severity = severity;
+        }
+
+        // Getters
+        public String getMessage() { return message; }
+        public String getStack() { return stack; }
+        public String getUrl() { return url; }
+        public String getSeverity() { return severity; }
+        public String getVersion() { return version; }
+        public String getSessionId() { return sessionId; }
+
+        // Setters
+        public void setMessage(String message) { this.message = message; }
+        public void setStack(String stack) { this.stack = stack; }
+        public void setUrl(String url) { this.url = url; }
+        public void setSeverity(String severity) { this.severity = severity; }
+        public void setVersion(String version) { this.version = version; }
+        public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+    }
+}
@@ -0,0 +1,32 @@
+package com.institute.admin.dto;
+
+import com.institute.admin.model.Course;
+
+import java.util.List;
+
+/**
+ * Courses looked up by a list of ids, with the ids that do not exist
+ */
+public class CourseBatchResult {
+
+    private final List<Course> courses;
+    private final List<Long> missingIds;
+
+    public CourseBatchResult(List<Course> courses, List<Long> missingIds) {
+        this.courses = courses;
+        this.missingIds = missingIds;
+    }
+
+    // Getters
+
+    /**
+     * Found courses, in the order their ids were requested
+     */
+    public List<Course> getCourses() {
+        return courses;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+}
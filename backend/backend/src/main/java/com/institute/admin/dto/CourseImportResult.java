@@ -0,0 +1,52 @@
+package com.institute.admin.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk course import, with the reason for every rejected row
+ */
+public class CourseImportResult {
+
+    private final int received;
+    private final int imported;
+    private final List<RowError> errors;
+
+    public CourseImportResult(int received, int imported, List<RowError> errors) {
+        this.received = received;
+        this.imported = imported;
+        this.errors = errors;
+    }
+
+    // Getters
+    public int getReceived() {
+        return received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * A rejected row; rows are numbered from 1 in input order (CSV header excluded)
+     */
+    public static class RowError {
+        private final int row;
+        private final String message;
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() { return row; }
+        public String getMessage() { return message; }
+    }
+}
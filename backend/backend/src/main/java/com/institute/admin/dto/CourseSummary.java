@@ -0,0 +1,53 @@
+package com.institute.admin.dto;
+
+/**
+ * The columns a course list needs, read straight into this object.
+ *
+ * Summaries are built by a constructor expression, so a list query selects six
+ * columns instead of every one (description, features and prerequisites are
+ * the large ones) and returns plain objects: nothing is added to the
+ * persistence context, snapshotted or dirty-checked at flush.
+ */
+public class CourseSummary {
+
+    private final Long id;
+    private final String name;
+    private final String level;
+    private final String category;
+    private final Double price;
+    private final Double rating;
+
+    public CourseSummary(Long id, String name, String level, String category, Double price, Double rating) {
+        this.id = id;
+        this.name = name;
+        this.level = level;
+        this.category = category;
+        this.price = price;
+        this.rating = rating;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+}
@@ -0,0 +1,32 @@
+package com.institute.admin.dto;
+
+import java.util.Locale;
+
+/**
+ * Representation requested for course lists with {@code ?view=}
+ */
+public enum CourseView {
+
+    /** {@link CourseSummary} rows */
+    SUMMARY,
+
+    /** Complete courses, the default */
+    FULL;
+
+    /**
+     * Parses a {@code view} request parameter
+     *
+     * @param view The parameter value, or null for {@link #FULL}
+     * @throws IllegalArgumentException if the value is not a known view
+     */
+    public static CourseView parse(String view) {
+        if (view == null || view.isEmpty()) {
+            return FULL;
+        }
+        try {
+            return valueOf(view.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown view: " + view, e);
+        }
+    }
+}
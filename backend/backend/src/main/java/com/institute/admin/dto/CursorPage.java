@@ -0,0 +1,83 @@
+package com.institute.admin.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of an id-ordered keyset scan.
+ *
+ * The cursor is opaque to clients: it encodes the id of the last row on the
+ * page, and the next page is read with {@code WHERE id > :lastId ORDER BY id}
+ * so the cost of a page does not depend on how deep into the table it is.
+ */
+public class CursorPage<T> {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public CursorPage(List<T> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(idExtractor.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Encodes the id of the last row of a page as an opaque cursor
+     */
+    public static String encodeCursor(Long id) {
+        byte[] raw = (CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor(Long)}
+     *
+     * @param cursor The cursor, or null for the first page
+     * @return The id to continue after (0 for the first page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    // Getters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,50 @@
+package com.institute.admin.dto;
+
+import com.institute.admin.model.Course;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of filtered courses together with the facet counts for the filter
+ */
+public class FacetedCourseResult {
+
+    private final List<Course> courses;
+    private final int total;
+    private final int page;
+    private final int size;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public FacetedCourseResult(List<Course> courses, int total, int page, int size, Map<String, Map<String, Integer>> facets) {
+        this.courses = courses;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.facets = facets;
+    }
+
+    // Getters
+    public List<Course> getCourses() {
+        return courses;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Facet name (level, category, price, rating) to value counts
+     */
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
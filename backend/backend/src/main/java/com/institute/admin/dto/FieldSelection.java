@@ -0,0 +1,63 @@
+package com.institute.admin.dto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Sparse fieldset requested with {@code ?fields=id,name,price}.
+ *
+ * Only the syntax is checked here; whether each name is an attribute of the
+ * entity being read is checked against the JPA metamodel when the query is
+ * built. The id is always selected, as keyset pages continue from it.
+ */
+public final class FieldSelection {
+
+    public static final String ID = "id";
+
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+
+    private final List<String> fields;
+
+    private FieldSelection(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parses a {@code fields} request parameter
+     *
+     * @param fields Comma-separated attribute names, or null when no selection was requested
+     * @return The selection with the id first and duplicates removed, or null for whole entities
+     * @throws IllegalArgumentException if the list is empty or a name is not a plain identifier
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add(ID);
+        for (String field : fields.split(",", -1)) {
+            String name = field.trim();
+            if (!FIELD_NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid field: " + name);
+            }
+            names.add(name);
+        }
+        return new FieldSelection(List.copyOf(names));
+    }
+
+    /**
+     * Selected attribute names, id first
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Stable key for the selection, usable in an ETag
+     */
+    public String key() {
+        return String.join(".", fields);
+    }
+}
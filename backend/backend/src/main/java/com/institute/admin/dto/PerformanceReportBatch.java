@@ -0,0 +1,53 @@
+package com.institute.admin.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of page timing reports as posted by the public website's monitoring service
+ */
+public class PerformanceReportBatch {
+
+    private List<Report> reports;
+    private String timestamp;
+
+    // Getters
+    public List<Report> getReports() { return reports; }
+    public String getTimestamp() { return timestamp; }
+
+    // Setters
+    public void setReports(List<Report> reports) { this.reports = reports; }
+    public void setTimestamp(String timestamp) { this.timestamp = timestamp; }
+
+    /**
+     * Metrics of one page view, keyed by name (fcp, lcp, fid, cls, ttfb); timings are in milliseconds
+     */
+    public static class Report {
+        private Map<String, Object> metrics;
+        private String url;
+        private String connectionType;
+        private String sessionId;
+        private String version;
+
+        public Report() {}
+
+        public Report(Map<String, Object> metrics, String url) {
+            this.metrics = metrics;
+            this.url = url;
+        }
+
+        // Getters
+        public Map<String, Object> getMetrics() { return metrics; }
+        public String getUrl() { return url; }
+        public String getConnectionType() { return connectionType; }
+        public String getSessionId() { return sessionId; }
+        public String getVersion() { return version; }
+
+        // Setters
+        public void setMetrics(Map<String, Object> metrics) { this.metrics = metrics; }
+        public void setUrl(String url) { this.url = url; }
+        public void setConnectionType(String connectionType) { this.connectionType = connectionType; }
+        public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+        public void setVersion(String version) { this.version = version; }
+    }
+}
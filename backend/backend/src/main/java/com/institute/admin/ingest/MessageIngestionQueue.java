@@ -0,0 +1,276 @@
+package com.institute.admin.ingest;
+
+import com.institute.admin.model.Message;
+import com.institute.admin.repository.MessageRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded queue between the contact form and the database.
+ *
+ * In {@code async} mode the request thread only validates and enqueues a message;
+ * a single writer thread drains the queue and saves whatever has accumulated
+ * (up to {@code max-batch-size}, waiting at most {@code max-batch-delay} for
+ * more) in one transaction, so a burst of submissions costs a few batched
+ * commits instead of one commit per request. When the queue is full the
+ * submission is refused rather than blocking a request thread.
+ *
+ * In {@code sync} mode (the default) the queue is not started and callers save
+ * messages directly.
+ *
+ * Queue depth, batch sizes, commit latency and message outcomes are published
+ * as {@code institute.contact.ingestion.*} meters; {@link #getStats()} reads
+ * the same meters.
+ */
+@Component
+public class MessageIngestionQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MessageIngestionQueue.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    static final String QUEUE_DEPTH = "institute.contact.ingestion.queue.depth";
+    static final String BATCH_SIZE = "institute.contact.ingestion.batch.size";
+    static final String COMMIT = "institute.contact.ingestion.commit";
+    static final String MESSAGES = "institute.contact.ingestion.messages";
+
+    /**
+     * How contact messages are written
+     */
+    public enum Mode {
+        SYNC, ASYNC
+    }
+
+    private final MessageRepository messageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Mode mode;
+    private final BlockingQueue<Message> queue;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer commits;
+    private volatile int lastBatchSize;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public MessageIngestionQueue(MessageRepository messageRepository, PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry,
+                                 @Value("${institute.contact.ingestion.mode:sync}") String mode,
+                                 @Value("${institute.contact.ingestion.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${institute.contact.ingestion.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${institute.contact.ingestion.max-batch-delay:10ms}") Duration maxBatchDelay) {
+        if (queueCapacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Ingestion queue capacity and batch size must be at least 1");
+        }
+        this.messageRepository = messageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+
+        Gauge.builder(QUEUE_DEPTH, queue, BlockingQueue::size)
+                .description("Contact messages waiting to be written")
+                .register(registry);
+        this.accepted = messages(registry, "accepted");
+        this.rejected = messages(registry, "rejected");
+        this.written = messages(registry, "written");
+        this.failed = messages(registry, "failed");
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE)
+                .description("Contact messages written per batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.commits = Timer.builder(COMMIT)
+                .description("Time to commit a batch of contact messages, including individual retries")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    private static Counter messages(MeterRegistry registry, String outcome) {
+        return Counter.builder(MESSAGES)
+                .description("Contact messages by ingestion outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Whether contact messages should be enqueued rather than saved directly
+     */
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+
+    /**
+     * Enqueues an already validated message without blocking
+     *
+     * @param message The message to save
+     * @return false if the queue is full or shutting down
+     */
+    public boolean offer(Message message) {
+        if (accepting && queue.offer(message)) {
+            accepted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Queue depth, batch sizes and commit latency, read from the ingestion meters.
+     * The largest batch and slowest commit are over the meters' recent window.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", mode.name().toLowerCase(Locale.ROOT));
+        stats.put("queueDepth", queue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("accepted", (long) accepted.count());
+        stats.put("rejected", (long) rejected.count());
+        stats.put("written", (long) written.count());
+        stats.put("failed", (long) failed.count());
+        stats.put("batches", batchSizes.count());
+        stats.put("lastBatchSize", lastBatchSize);
+        stats.put("largestBatchSize", (long) batchSizes.max());
+        stats.put("averageBatchSize", batchSizes.mean());
+        stats.put("averageCommitMs", commits.mean(TimeUnit.MILLISECONDS));
+        stats.put("maxCommitMs", commits.max(TimeUnit.MILLISECONDS));
+        return stats;
+    }
+
+    // ---------------- Lifecycle ----------------
+
+    @Override
+    public synchronized void start() {
+        if (running || !isAsync()) {
+            return;
+        }
+        accepting = true;
+        running = true;
+        writer = new Thread(this::drainLoop, "message-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting messages and waits for the writer to save what is queued
+     */
+    @Override
+    public synchronized void stop() {
+        accepting = false;
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server, so requests still in flight can enqueue
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<Message> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Message first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes what is already queued, then lingers briefly for more so that a burst
+     * is committed together
+     */
+    private void fillBatch(List<Message> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxBatchDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void write(List<Message> batch) {
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> messageRepository.saveAll(batch));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            // Retry one by one so a single bad message does not lose the whole batch
+            log.warn("Batch of {} messages failed, retrying individually", batch.size(), e);
+            for (Message message : batch) {
+                try {
+                    message.setId(null);
+                    transactionTemplate.executeWithoutResult(status -> messageRepository.save(message));
+                    written.increment();
+                } catch (RuntimeException single) {
+                    failed.increment();
+                    log.error("Could not save message from {}", message.getEmail(), single);
+                }
+            }
+        }
+        commits.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+        lastBatchSize = batch.size();
+    }
+}
@@ -1,11 +1,18 @@
 package com.institute.admin.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+// Read-write keeps the cached copy consistent with committed updates (soft locks while a write is in flight)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round trip per row
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String description;
@@ -0,0 +1,127 @@
+package com.institute.admin.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Number of occurrences of one client error fingerprint within one minute
+ */
+@Entity
+@Table(name = "error_rollup", uniqueConstraints = @UniqueConstraint(columnNames = {"fingerprint", "minute_start"}))
+public class ErrorRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "error_rollup_seq")
+    @SequenceGenerator(name = "error_rollup_seq", sequenceName = "error_rollup_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String fingerprint;
+
+    @Column(name = "minute_start", nullable = false)
+    private Instant minuteStart;
+
+    private long occurrences;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(length = 4000)
+    private String stack;
+
+    @Column(length = 1000)
+    private String url;
+
+    private String severity;
+    private String version;
+    private Instant lastSeen;
+
+    public ErrorRollup() {}
+
+    public ErrorRollup(String fingerprint, Instant minuteStart) {
+        this.fingerprint = fingerprint;
+        this.minuteStart = minuteStart;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Instant getMinuteStart() {
+        return minuteStart;
+    }
+
+    public long getOccurrences() {
+        return occurrences;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getStack() {
+        return stack;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getSeverity() {
+        return severity;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Instant getLastSeen() {
+        return lastSeen;
+    }
+
+    // Setters
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public void setMinuteStart(Instant minuteStart) {
+        this.minuteStart = minuteStart;
+    }
+
+    public void setOccurrences(long occurrences) {
+        this.occurrences = occurrences;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public void setStack(String stack) {
+        this.stack = stack;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setSeverity(String severity) {
+        this.severity = severity;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public void setLastSeen(Instant lastSeen) {
+        this.lastSeen = lastSeen;
+    }
+}
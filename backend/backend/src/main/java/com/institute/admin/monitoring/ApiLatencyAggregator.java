@@ -0,0 +1,286 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.dto.ApiPerformanceBatch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API latency per endpoint, as observed by browsers and as measured on the server.
+ *
+ * Every endpoint keeps two fixed-bucket histograms whose buckets, counts and
+ * sums are {@link LongAdder}s, so concurrent requests recording into the same
+ * endpoint update striped cells instead of contending on one counter. Bucket
+ * bounds grow geometrically by 20%, which bounds the error of the estimated
+ * percentiles to well under a bucket width. Client reports and server timings
+ * share the endpoint key (the route pattern, e.g. /api/public/courses/{id}),
+ * so the summary can put both side by side; the difference is time spent
+ * outside the handler (network, proxies, browser queueing).
+ *
+ * Counts are cumulative since startup.
+ */
+@Component
+public class ApiLatencyAggregator {
+
+    private final int maxEndpoints;
+    private final Clock clock;
+    private final Instant since;
+
+    private final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public ApiLatencyAggregator(@Value("${institute.monitoring.api.max-endpoints:500}") int maxEndpoints) {
+        this(maxEndpoints, Clock.systemUTC());
+    }
+
+    ApiLatencyAggregator(int maxEndpoints, Clock clock) {
+        if (maxEndpoints < 1) {
+            throw new IllegalArgumentException("Endpoint limit must be at least 1");
+        }
+        this.maxEndpoints = maxEndpoints;
+        this.clock = clock;
+        this.since = clock.instant();
+    }
+
+    /**
+     * Records browser-observed response times
+     *
+     * @return Number of reports recorded
+     */
+    public int recordClient(List<ApiPerformanceBatch.Report> reports) {
+        if (reports == null) {
+            return 0;
+        }
+        int count = 0;
+        for (ApiPerformanceBatch.Report report : reports) {
+            if (recordClient(report)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Records one browser-observed response time
+     *
+     * @return false if the report was rejected
+     */
+    public boolean recordClient(ApiPerformanceBatch.Report report) {
+        if (report == null || report.getEndpoint() == null || report.getResponseTime() == null
+                || !Double.isFinite(report.getResponseTime()) || report.getResponseTime() < 0) {
+            rejected.increment();
+            return false;
+        }
+        int status = report.getStatus() == null ? 0 : report.getStatus();
+        boolean success = report.getSuccess() != null ? report.getSuccess() : status > 0 && status < 400;
+        long micros = Math.round(report.getResponseTime() * 1000);
+        statsFor(UrlPaths.normalize(report.getEndpoint())).client.record(micros, status, success);
+        return true;
+    }
+
+    /**
+     * Records the time the server spent on a request
+     *
+     * @param route Matched route pattern, or the request path if no handler matched
+     */
+    public void recordServer(String route, long nanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+        // Route patterns are already normalized (and their braces would not parse as a URI)
+        String endpoint = route != null && route.indexOf('{') >= 0 ? route : UrlPaths.normalize(route);
+        statsFor(endpoint).server.record(micros, status, status < 400);
+    }
+
+    private EndpointStats statsFor(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats != null) {
+            return stats;
+        }
+        if (endpoints.size() >= maxEndpoints) {
+            endpoint = UrlPaths.OTHER;
+        }
+        return endpoints.computeIfAbsent(endpoint, k -> new EndpointStats());
+    }
+
+    /**
+     * Client and server latency per endpoint, busiest endpoints first
+     */
+    public Map<String, Object> getSummary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        endpoints.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().snapshot()))
+                .sorted(Comparator.comparingLong((Map.Entry<String, Snapshot[]> e) -> -(e.getValue()[0].count + e.getValue()[1].count))
+                        .thenComparing(Map.Entry::getKey))
+                .forEach(entry -> rows.add(describe(entry.getKey(), entry.getValue()[0], entry.getValue()[1])));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("since", since.toString());
+        summary.put("to", clock.instant().toString());
+        summary.put("endpoints", rows);
+        summary.put("rejected", rejected.sum());
+        return summary;
+    }
+
+    private static Map<String, Object> describe(String endpoint, Snapshot client, Snapshot server) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", endpoint);
+        row.put("client", client.describe());
+        row.put("server", server.describe());
+        if (client.count > 0 && server.count > 0) {
+            // Percentiles do not subtract exactly, but the gap at each one shows where the time goes
+            Map<String, Object> overhead = new LinkedHashMap<>();
+            overhead.put("p50", round(client.percentile(50) - server.percentile(50)));
+            overhead.put("p95", round(client.percentile(95) - server.percentile(95)));
+            overhead.put("p99", round(client.percentile(99) - server.percentile(99)));
+            row.put("clientOverheadMs", overhead);
+        }
+        return row;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+
+    private static final class EndpointStats {
+        private final LatencyHistogram client = new LatencyHistogram();
+        private final LatencyHistogram server = new LatencyHistogram();
+
+        Snapshot[] snapshot() {
+            return new Snapshot[] {client.snapshot(), server.snapshot()};
+        }
+    }
+
+    /**
+     * Lock-free latency histogram over fixed, geometrically growing microsecond buckets
+     */
+    static final class LatencyHistogram {
+
+        // Upper bounds from 100µs up to about two minutes, +20% per bucket; one overflow bucket follows
+        static final long[] BOUNDS;
+
+        static {
+            List<Long> bounds = new ArrayList<>();
+            for (double bound = 100; bound < 120_000_000; bound *= 1.2) {
+                bounds.add(Math.round(bound));
+            }
+            BOUNDS = bounds.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+        private final LongAdder sumMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+        // Indexed by status / 100; 0 is "no response"
+        private final LongAdder[] statusClasses = new LongAdder[6];
+        private final LongAdder failures = new LongAdder();
+
+        LatencyHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+            for (int i = 0; i < statusClasses.length; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+        }
+
+        void record(long micros, int status, boolean success) {
+            int index = Arrays.binarySearch(BOUNDS, micros);
+            buckets[index >= 0 ? index : -index - 1].increment();
+            sumMicros.add(micros);
+            maxMicros.accumulate(micros);
+            statusClasses[status >= 100 && status < 600 ? status / 100 : 0].increment();
+            if (!success) {
+                failures.increment();
+            }
+        }
+
+        Snapshot snapshot() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            long[] statuses = new long[statusClasses.length];
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = statusClasses[i].sum();
+            }
+            // The count is taken from the buckets, so percentiles stay consistent with it under concurrent recording
+            return new Snapshot(counts, Arrays.stream(counts).sum(), sumMicros.sum(), maxMicros.get(), statuses, failures.sum());
+        }
+    }
+
+    static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sumMicros;
+        private final long maxMicros;
+        private final long[] statusClasses;
+        private final long failures;
+
+        Snapshot(long[] counts, long count, long sumMicros, long maxMicros, long[] statusClasses, long failures) {
+            this.counts = counts;
+            this.count = count;
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+            this.statusClasses = statusClasses;
+            this.failures = failures;
+        }
+
+        /**
+         * Percentile in milliseconds, interpolated linearly inside the bucket holding the rank
+         */
+        double percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                if (seen + counts[i] >= rank) {
+                    long lower = i == 0 ? 0 : LatencyHistogram.BOUNDS[i - 1];
+                    long upper = i < LatencyHistogram.BOUNDS.length ? Math.min(LatencyHistogram.BOUNDS[i], maxMicros) : maxMicros;
+                    double fraction = (double) (rank - seen) / counts[i];
+                    return (lower + fraction * Math.max(0, upper - lower)) / 1000.0;
+                }
+                seen += counts[i];
+            }
+            return maxMicros / 1000.0;
+        }
+
+        Map<String, Object> describe() {
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("count", count);
+            if (count > 0) {
+                description.put("p50", round(percentile(50)));
+                description.put("p95", round(percentile(95)));
+                description.put("p99", round(percentile(99)));
+                description.put("mean", round(sumMicros / 1000.0 / count));
+                description.put("max", round(maxMicros / 1000.0));
+            }
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            for (int i = 0; i < statusClasses.length; i++) {
+                if (statusClasses[i] > 0) {
+                    statuses.put(i == 0 ? "none" : i + "xx", statusClasses[i]);
+                }
+            }
+            description.put("statuses", statuses);
+            description.put("failures", failures);
+            return description;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.dto.ClientErrorBatch;
+import com.institute.admin.model.ErrorRollup;
+import com.institute.admin.repository.ErrorRollupRepository;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the stream of browser error reports into per-minute rollups.
+ *
+ * Request threads only copy reports into an {@link ErrorEventRingBuffer}. A
+ * scheduled consumer drains the ring, groups events by fingerprint (normalised
+ * message plus the top stack frames) and by the minute they arrived, and keeps
+ * recent per-minute totals in memory. Once a minute has closed, its rollups are
+ * written in one transaction, one row per fingerprint, so the database sees a
+ * handful of aggregate writes per minute however many errors were reported.
+ */
+@Service
+public class ClientErrorAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientErrorAggregator.class);
+
+    static final int MAX_MESSAGE_LENGTH = 1000;
+    static final int MAX_STACK_LENGTH = 4000;
+    static final int MAX_URL_LENGTH = 1000;
+    private static final int FINGERPRINT_FRAMES = 5;
+    private static final int HISTORY_MINUTES = 60;
+    private static final int TOP_ERRORS = 10;
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private static final Pattern LINE_AND_COLUMN = Pattern.compile(":\\d+(:\\d+)?");
+    private static final Pattern HEX_IDS = Pattern.compile("\\b[0-9a-fA-F]{8,}\\b");
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+
+    private final ErrorEventRingBuffer buffer;
+    private final ErrorRollupRepository errorRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxReportsPerBatch;
+    private final Clock clock;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder persistedRollups = new LongAdder();
+    private final LongAdder persistFailures = new LongAdder();
+
+    // Consumer state, guarded by this
+    private final TreeMap<Long, Map<String, Rollup>> openMinutes = new TreeMap<>();
+    private final TreeMap<Long, Long> minuteTotals = new TreeMap<>();
+
+    @Autowired
+    public ClientErrorAggregator(ErrorRollupRepository errorRollupRepository, PlatformTransactionManager transactionManager,
+                                 @Value("${institute.monitoring.errors.buffer-capacity:8192}") int bufferCapacity,
+                                 @Value("${institute.monitoring.errors.max-batch-size:100}") int maxReportsPerBatch) {
+        this(errorRollupRepository, transactionManager, bufferCapacity, maxReportsPerBatch, Clock.systemUTC());
+    }
+
+    ClientErrorAggregator(ErrorRollupRepository errorRollupRepository, PlatformTransactionManager transactionManager,
+                          int bufferCapacity, int maxReportsPerBatch, Clock clock) {
+        this.buffer = new ErrorEventRingBuffer(bufferCapacity);
+        this.errorRollupRepository = errorRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxReportsPerBatch = maxReportsPerBatch;
+        this.clock = clock;
+    }
+
+    /**
+     * Queues a batch of reports without blocking or touching the database
+     *
+     * @return Number of reports queued; the rest were over the batch limit or found the buffer full
+     */
+    public int submit(List<ClientErrorBatch.Report> reports) {
+        if (reports == null) {
+            return 0;
+        }
+        long now = clock.millis();
+        int queued = 0;
+        for (int i = 0; i < reports.size() && i < maxReportsPerBatch; i++) {
+            ClientErrorBatch.Report report = reports.get(i);
+            if (report == null || report.getMessage() == null) {
+                continue;
+            }
+            if (buffer.offer(truncate(report.getMessage(), MAX_MESSAGE_LENGTH),
+                    truncate(report.getStack(), MAX_STACK_LENGTH),
+                    truncate(report.getUrl(), MAX_URL_LENGTH),
+                    truncate(report.getSeverity(), 16),
+                    truncate(report.getVersion(), 64),
+                    now)) {
+                queued++;
+            }
+        }
+        accepted.add(queued);
+        return queued;
+    }
+
+    /**
+     * Consumes the ring buffer and persists every minute that has closed
+     */
+    @Scheduled(fixedDelayString = "${institute.monitoring.errors.drain-interval:1s}")
+    public void drainAndFlush() {
+        drain();
+        persist(takeMinutesBefore(minuteOf(clock.millis())));
+    }
+
+    /**
+     * Persists everything, including the current minute, before shutdown
+     */
+    @PreDestroy
+    public void flushAll() {
+        drain();
+        persist(takeMinutesBefore(Long.MAX_VALUE));
+    }
+
+    synchronized void drain() {
+        buffer.drain(this::aggregate, Integer.MAX_VALUE);
+        long oldest = minuteOf(clock.millis()) - (HISTORY_MINUTES - 1) * MINUTE_MILLIS;
+        minuteTotals.headMap(oldest).clear();
+    }
+
+    /**
+     * Recent per-minute totals, the most frequent errors of the minutes not yet
+     * persisted, and buffer counters
+     */
+    public synchronized Map<String, Object> getSummary() {
+        Map<String, Long> perMinute = new LinkedHashMap<>();
+        minuteTotals.forEach((minute, total) -> perMinute.put(Instant.ofEpochMilli(minute).toString(), total));
+
+        Map<String, Rollup> pending = new HashMap<>();
+        for (Map<String, Rollup> minute : openMinutes.values()) {
+            for (Rollup rollup : minute.values()) {
+                pending.merge(rollup.fingerprint, rollup.copy(), Rollup::add);
+            }
+        }
+        List<Map<String, Object>> top = pending.values().stream()
+                .sorted(Comparator.comparingLong((Rollup r) -> r.count).reversed())
+                .limit(TOP_ERRORS)
+                .map(Rollup::describe)
+                .collect(Collectors.toList());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("perMinute", perMinute);
+        summary.put("topPending", top);
+        summary.put("accepted", accepted.sum());
+        summary.put("dropped", buffer.getDropped());
+        summary.put("buffered", buffer.size());
+        summary.put("bufferCapacity", buffer.capacity());
+        summary.put("persistedRollups", persistedRollups.sum());
+        summary.put("persistFailures", persistFailures.sum());
+        return summary;
+    }
+
+    /**
+     * Stable id for "the same error": the message and top stack frames with line
+     * numbers, hashes and other numbers removed
+     */
+    static String fingerprint(String message, String stack) {
+        StringBuilder key = new StringBuilder(normalize(message));
+        if (stack != null) {
+            int frames = 0;
+            for (String line : stack.split("\n")) {
+                String frame = line.trim();
+                if (frame.isEmpty()) {
+                    continue;
+                }
+                key.append('\n').append(normalize(LINE_AND_COLUMN.matcher(frame).replaceAll("")));
+                if (++frames == FINGERPRINT_FRAMES) {
+                    break;
+                }
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NUMBERS.matcher(HEX_IDS.matcher(text).replaceAll("#")).replaceAll("#").trim();
+    }
+
+    private void aggregate(ErrorEventRingBuffer.Event event) {
+        long minute = minuteOf(event.getReceivedAt());
+        String fingerprint = fingerprint(event.getMessage(), event.getStack());
+        Rollup rollup = openMinutes.computeIfAbsent(minute, m -> new HashMap<>())
+                .computeIfAbsent(fingerprint, fp -> new Rollup(fp, minute, event));
+        rollup.count++;
+        rollup.lastSeen = Math.max(rollup.lastSeen, event.getReceivedAt());
+        minuteTotals.merge(minute, 1L, Long::sum);
+    }
+
+    private synchronized List<Rollup> takeMinutesBefore(long minute) {
+        List<Rollup> closed = new ArrayList<>();
+        Iterator<Map<String, Rollup>> minutes = openMinutes.headMap(minute).values().iterator();
+        while (minutes.hasNext()) {
+            closed.addAll(minutes.next().values());
+            minutes.remove();
+        }
+        return closed;
+    }
+
+    /**
+     * Adds the rollups to the stored ones (a minute can receive late events after
+     * it was first written) in a single transaction
+     */
+    private void persist(List<Rollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Instant> minutes = rollups.stream()
+                        .map(r -> Instant.ofEpochMilli(r.minute))
+                        .collect(Collectors.toSet());
+                Map<String, ErrorRollup> existing = new HashMap<>();
+                for (ErrorRollup stored : errorRollupRepository.findByMinuteStartIn(minutes)) {
+                    existing.put(key(stored.getFingerprint(), stored.getMinuteStart().toEpochMilli()), stored);
+                }
+                List<ErrorRollup> toSave = new ArrayList<>(rollups.size());
+                for (Rollup rollup : rollups) {
+                    ErrorRollup entity = existing.get(key(rollup.fingerprint, rollup.minute));
+                    if (entity == null) {
+                        entity = new ErrorRollup(rollup.fingerprint, Instant.ofEpochMilli(rollup.minute));
+                        entity.setMessage(rollup.message);
+                        entity.setStack(rollup.stack);
+                        entity.setUrl(rollup.url);
+                        entity.setSeverity(rollup.severity);
+                        entity.setVersion(rollup.version);
+                    }
+                    entity.setOccurrences(entity.getOccurrences() + rollup.count);
+                    Instant lastSeen = Instant.ofEpochMilli(rollup.lastSeen);
+                    if (entity.getLastSeen() == null || entity.getLastSeen().isBefore(lastSeen)) {
+                        entity.setLastSeen(lastSeen);
+                    }
+                    toSave.add(entity);
+                }
+                errorRollupRepository.saveAll(toSave);
+            });
+            persistedRollups.add(rollups.size());
+        } catch (RuntimeException e) {
+            persistFailures.increment();
+            log.warn("Could not persist {} client error rollups", rollups.size(), e);
+        }
+    }
+
+    private static String key(String fingerprint, long minute) {
+        return fingerprint + "@" + minute;
+    }
+
+    private static long minuteOf(long millis) {
+        return millis - Math.floorMod(millis, MINUTE_MILLIS);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * In-memory count for one fingerprint and minute, with the first event as sample
+     */
+    private static final class Rollup {
+        private final String fingerprint;
+        private final long minute;
+        private final String message;
+        private final String stack;
+        private final String url;
+        private final String severity;
+        private final String version;
+        private long count;
+        private long lastSeen;
+
+        Rollup(String fingerprint, long minute, ErrorEventRingBuffer.Event sample) {
+            this(fingerprint, minute, sample.getMessage(), sample.getStack(), sample.getUrl(),
+                    sample.getSeverity(), sample.getVersion());
+        }
+
+        private Rollup(String fingerprint, long minute, String message, String stack, String url,
+                       String severity, String version) {
+            this.fingerprint = fingerprint;
+            this.minute = minute;
+            this.message = message;
+            this.stack = stack;
+            this.url = url;
+            this.severity = severity;
+            this.version = version;
+        }
+
+        Rollup copy() {
+            Rollup copy = new Rollup(fingerprint, minute, message, stack, url, severity, version);
+            copy.count = count;
+            copy.lastSeen = lastSeen;
+            return copy;
+        }
+
+        Rollup add(Rollup other) {
+            count += other.count;
+            lastSeen = Math.max(lastSeen, other.lastSeen);
+            return this;
+        }
+
+        Map<String, Object> describe() {
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("fingerprint", fingerprint);
+            description.put("message", message);
+            description.put("url", url);
+            description.put("severity", severity);
+            description.put("count", count);
+            description.put("lastSeen", Instant.ofEpochMilli(lastSeen).toString());
+            return description;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.institute.admin.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Brackets each request with {@link EntityLoadMetrics#begin()} and
+ * {@link EntityLoadMetrics#end(String)}, keyed by the matched route pattern
+ */
+public class EntityLoadFilter extends OncePerRequestFilter {
+
+    // Same value Micrometer uses for the uri tag of unmatched requests, to keep cardinality bounded
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final EntityLoadMetrics metrics;
+
+    public EntityLoadFilter(EntityLoadMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        metrics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            metrics.end(pattern != null ? pattern.toString() : UNKNOWN_ROUTE);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.institute.admin.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts Hibernate entity loads, in total and per HTTP request.
+ *
+ * Loads are tallied in a per-thread slot between {@link #begin()} and
+ * {@link #end(String)}, which {@link EntityLoadFilter} calls around each
+ * request, and the tally goes into a distribution summary for the matched
+ * route. A route whose loads grow with the size of the result is an N+1.
+ * The slot and the per-route summaries are created once and reused, so
+ * counting allocates nothing per load or per request.
+ */
+@Component
+public class EntityLoadMetrics implements PostLoadEventListener {
+
+    static final String LOADS_PER_REQUEST = "institute.hibernate.entity.loads.per.request";
+
+    // slot[0] is the running count, or -1 outside a request
+    private static final ThreadLocal<long[]> LOADS = ThreadLocal.withInitial(() -> new long[] {-1});
+
+    private final MeterRegistry registry;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Counter totalLoads;
+    private final ConcurrentHashMap<String, DistributionSummary> perRoute = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EntityLoadMetrics(MeterRegistry registry, EntityManagerFactory entityManagerFactory) {
+        this.registry = registry;
+        this.entityManagerFactory = entityManagerFactory;
+        this.totalLoads = Counter.builder("institute.hibernate.entity.loads")
+                .description("Entities loaded by Hibernate")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void registerListener() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        totalLoads.increment();
+        long[] slot = LOADS.get();
+        if (slot[0] >= 0) {
+            slot[0]++;
+        }
+    }
+
+    /**
+     * Starts counting loads on the current thread
+     */
+    public void begin() {
+        LOADS.get()[0] = 0;
+    }
+
+    /**
+     * Stops counting and records the loads since {@link #begin()} against {@code route}
+     */
+    public void end(String route) {
+        long[] slot = LOADS.get();
+        long loads = slot[0];
+        slot[0] = -1;
+        if (loads >= 0) {
+            perRoute.computeIfAbsent(route, this::newSummary).record(loads);
+        }
+    }
+
+    private DistributionSummary newSummary(String route) {
+        return DistributionSummary.builder(LOADS_PER_REQUEST)
+                .description("Entities loaded by Hibernate while serving one request")
+                .tag("uri", route)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
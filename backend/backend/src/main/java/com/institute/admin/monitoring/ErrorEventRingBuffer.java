@@ -0,0 +1,145 @@
+package com.institute.admin.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Preallocated, bounded multi-producer / single-consumer ring of client error events.
+ *
+ * Producers claim a sequence number with a CAS on {@code head}, fill the slot
+ * at that position in place and then publish it by storing the sequence in the
+ * slot's marker. The single consumer reads slots in sequence order while their
+ * marker matches and then advances {@code tail}. No locks are taken and no
+ * objects are allocated per event; when the ring is full, events are dropped
+ * and counted rather than making the request wait.
+ */
+public class ErrorEventRingBuffer {
+
+    private final Event[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity Minimum number of slots; rounded up to a power of two
+     */
+    public ErrorEventRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Event[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Event();
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Copies an event into the next free slot
+     *
+     * @return false if the ring is full and the event was dropped
+     */
+    public boolean offer(String message, String stack, String url, String severity, String version, long receivedAt) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail.get() >= slots.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        Event event = slots[index];
+        event.message = message;
+        event.stack = stack;
+        event.url = url;
+        event.severity = severity;
+        event.version = version;
+        event.receivedAt = receivedAt;
+        published.set(index, sequence);
+        return true;
+    }
+
+    /**
+     * Hands published events to {@code consumer} in order. Must only be called
+     * from one thread at a time, and the consumer must not keep the event
+     * object, which is reused once this call returns.
+     *
+     * @param maxEvents Upper bound on events handled in this call
+     * @return Number of events consumed
+     */
+    public int drain(Consumer<Event> consumer, int maxEvents) {
+        long sequence = tail.get();
+        int consumed = 0;
+        while (consumed < maxEvents) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence) {
+                break;
+            }
+            Event event = slots[index];
+            try {
+                consumer.accept(event);
+            } finally {
+                event.clear();
+                sequence++;
+                consumed++;
+                // Release the slot to producers
+                tail.set(sequence);
+            }
+        }
+        return consumed;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Events claimed but not yet consumed
+     */
+    public long size() {
+        return Math.max(0, head.get() - tail.get());
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * A slot of the ring; its fields are only valid during {@link #drain}
+     */
+    public static final class Event {
+        private String message;
+        private String stack;
+        private String url;
+        private String severity;
+        private String version;
+        private long receivedAt;
+
+        public String getMessage() { return message; }
+        public String getStack() { return stack; }
+        public String getUrl() { return url; }
+        public String getSeverity() { return severity; }
+        public String getVersion() { return version; }
+        public long getReceivedAt() { return receivedAt; }
+
+        private void clear() {
+            message = null;
+            stack = null;
+            url = null;
+            severity = null;
+            version = null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.institute.admin.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Session factory statistics; needs {@code hibernate.generate_statistics=true}
+ */
+@Component
+public class HibernateDiagnostics {
+
+    private final Statistics statistics;
+
+    @Autowired
+    public HibernateDiagnostics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> sessions = new LinkedHashMap<>();
+        sessions.put("opened", statistics.getSessionOpenCount());
+        sessions.put("closed", statistics.getSessionCloseCount());
+        sessions.put("flushes", statistics.getFlushCount());
+        sessions.put("transactions", statistics.getTransactionCount());
+        sessions.put("successfulTransactions", statistics.getSuccessfulTransactionCount());
+        sessions.put("optimisticFailures", statistics.getOptimisticFailureCount());
+
+        Map<String, Object> entities = new LinkedHashMap<>();
+        entities.put("loads", statistics.getEntityLoadCount());
+        entities.put("fetches", statistics.getEntityFetchCount());
+        entities.put("inserts", statistics.getEntityInsertCount());
+        entities.put("updates", statistics.getEntityUpdateCount());
+        entities.put("deletes", statistics.getEntityDeleteCount());
+        entities.put("collectionLoads", statistics.getCollectionLoadCount());
+        entities.put("collectionFetches", statistics.getCollectionFetchCount());
+
+        Map<String, Object> queries = new LinkedHashMap<>();
+        queries.put("executions", statistics.getQueryExecutionCount());
+        queries.put("maxTimeMillis", statistics.getQueryExecutionMaxTime());
+        queries.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        queries.put("preparedStatements", statistics.getPrepareStatementCount());
+        queries.put("queryPlanCacheHits", statistics.getQueryPlanCacheHitCount());
+        queries.put("queryPlanCacheMisses", statistics.getQueryPlanCacheMissCount());
+
+        Map<String, Object> secondLevelCache = new LinkedHashMap<>();
+        secondLevelCache.put("hits", statistics.getSecondLevelCacheHitCount());
+        secondLevelCache.put("misses", statistics.getSecondLevelCacheMissCount());
+        secondLevelCache.put("puts", statistics.getSecondLevelCachePutCount());
+        secondLevelCache.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        secondLevelCache.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(regionName, describe(statistics.getCacheRegionStatistics(regionName)));
+        }
+        secondLevelCache.put("regions", regions);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("since", statistics.getStart().toString());
+        result.put("sessions", sessions);
+        result.put("entities", entities);
+        result.put("queries", queries);
+        result.put("secondLevelCache", secondLevelCache);
+        return result;
+    }
+
+    private static Map<String, Object> describe(CacheRegionStatistics region) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        if (region == null) {
+            return description;
+        }
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        description.put("hits", hits);
+        description.put("misses", misses);
+        description.put("puts", region.getPutCount());
+        description.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        description.put("elementsInMemory", region.getElementCountInMemory());
+        return description;
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+}
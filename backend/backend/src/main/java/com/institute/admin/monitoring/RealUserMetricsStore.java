@@ -0,0 +1,289 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.dto.PerformanceReportBatch;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+
+/**
+ * Real-user page timing percentiles, per URL and metric, over rotating windows.
+ *
+ * Samples go into an HdrHistogram {@link Recorder} per series, which records
+ * without locks. Every {@code window} the recorders are harvested into the
+ * current window and the window is closed; closed windows are kept as
+ * compressed histograms, and only the last {@code windows} of them are
+ * retained. Histograms merge exactly, so a query adds up the retained windows
+ * (and what has been recorded since the last rotation) and reads p50/p95/p99
+ * from the sum, without ever storing individual samples.
+ *
+ * Values are recorded in thousandths of the reported unit (microseconds for
+ * timings), with two significant digits of precision.
+ *
+ * Only the metrics the site reports are accepted, and {@code max-series} bounds
+ * the number of recorders in total: it includes one overflow series per metric,
+ * created up front, into which URLs beyond the limit are recorded.
+ */
+@Component
+public class RealUserMetricsStore {
+
+    static final String ALL_URLS = "*";
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double SCALE = 1000.0;
+    // Web vitals measured by the public site's PerformanceService
+    static final Set<String> METRICS = Set.of("fcp", "lcp", "fid", "cls", "ttfb", "inp");
+
+    private final int retainedWindows;
+    private final int maxSeries;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<SeriesKey, Recorder> recorders = new ConcurrentHashMap<>();
+    private final AtomicInteger seriesCount = new AtomicInteger();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Harvested data, guarded by this
+    private final Deque<ClosedWindow> closedWindows = new ArrayDeque<>();
+    private Map<SeriesKey, Histogram> currentWindow = new HashMap<>();
+    private Instant currentWindowStart;
+
+    @Autowired
+    public RealUserMetricsStore(@Value("${institute.monitoring.performance.windows:12}") int retainedWindows,
+                                @Value("${institute.monitoring.performance.max-series:1000}") int maxSeries) {
+        this(retainedWindows, maxSeries, Clock.systemUTC());
+    }
+
+    RealUserMetricsStore(int retainedWindows, int maxSeries, Clock clock) {
+        if (retainedWindows < 1 || maxSeries <= METRICS.size()) {
+            throw new IllegalArgumentException("Retained windows must be at least 1 and the series limit above " + METRICS.size());
+        }
+        this.retainedWindows = retainedWindows;
+        this.maxSeries = maxSeries;
+        this.clock = clock;
+        this.currentWindowStart = clock.instant();
+        for (String metric : METRICS) {
+            recorders.put(new SeriesKey(UrlPaths.OTHER, metric), newRecorder());
+        }
+        seriesCount.set(recorders.size());
+    }
+
+    /**
+     * Records every numeric metric of every report
+     *
+     * @return Number of samples recorded
+     */
+    public int record(List<PerformanceReportBatch.Report> reports) {
+        if (reports == null) {
+            return 0;
+        }
+        int count = 0;
+        for (PerformanceReportBatch.Report report : reports) {
+            if (report == null || report.getMetrics() == null) {
+                continue;
+            }
+            String url = UrlPaths.normalize(report.getUrl());
+            for (Map.Entry<String, Object> metric : report.getMetrics().entrySet()) {
+                if (record(url, metric.getKey(), metric.getValue())) {
+                    count++;
+                }
+            }
+        }
+        recorded.add(count);
+        return count;
+    }
+
+    private boolean record(String url, String metric, Object value) {
+        if (!(value instanceof Number) || metric == null) {
+            rejected.increment();
+            return false;
+        }
+        double number = ((Number) value).doubleValue();
+        String name = metric.toLowerCase(Locale.ROOT);
+        if (!Double.isFinite(number) || number < 0 || !METRICS.contains(name)) {
+            rejected.increment();
+            return false;
+        }
+        recorderFor(url, name).recordValue(Math.round(number * SCALE));
+        return true;
+    }
+
+    private Recorder recorderFor(String url, String metric) {
+        SeriesKey key = new SeriesKey(url, metric);
+        Recorder recorder = recorders.get(key);
+        if (recorder != null) {
+            return recorder;
+        }
+        // Unbounded URL cardinality would mean unbounded memory, so URLs beyond the limit share the overflow series
+        SeriesKey overflow = new SeriesKey(UrlPaths.OTHER, metric);
+        if (seriesCount.incrementAndGet() > maxSeries) {
+            seriesCount.decrementAndGet();
+            return recorders.get(overflow);
+        }
+        Recorder created = newRecorder();
+        Recorder existing = recorders.putIfAbsent(key, created);
+        if (existing != null) {
+            seriesCount.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    private static Recorder newRecorder() {
+        return new Recorder(SIGNIFICANT_DIGITS, true);
+    }
+
+    /**
+     * Closes the current window and drops the oldest one beyond the retention
+     */
+    @Scheduled(fixedRateString = "${institute.monitoring.performance.window:5m}",
+               initialDelayString = "${institute.monitoring.performance.window:5m}")
+    public synchronized void rotate() {
+        harvest();
+        Map<SeriesKey, byte[]> compressed = new HashMap<>();
+        currentWindow.forEach((key, histogram) -> compressed.put(key, compress(histogram)));
+        Instant now = clock.instant();
+        closedWindows.addLast(new ClosedWindow(currentWindowStart, compressed));
+        while (closedWindows.size() > retainedWindows) {
+            closedWindows.removeFirst();
+        }
+        currentWindow = new HashMap<>();
+        currentWindowStart = now;
+
+        // Forget series with no samples in any retained window; a sample racing this removal may be lost
+        recorders.keySet().removeIf(key -> {
+            boolean idle = !key.url().equals(UrlPaths.OTHER)
+                    && closedWindows.stream().noneMatch(w -> w.histograms.containsKey(key));
+            if (idle) {
+                seriesCount.decrementAndGet();
+            }
+            return idle;
+        });
+    }
+
+    /**
+     * Percentiles over the retained windows plus the window in progress
+     *
+     * @param url Path to report on, {@code (other)} for the overflow series, or null to merge all URLs per metric
+     * @param metric Metric name, or null for all metrics
+     * @return One entry per series, ordered by URL then metric
+     */
+    public synchronized Map<String, Object> getPercentiles(String url, String metric) {
+        harvest();
+        String urlFilter = url == null || url.equals(UrlPaths.OTHER) ? url : UrlPaths.normalize(url);
+        String metricFilter = metric == null ? null : metric.toLowerCase(Locale.ROOT);
+
+        Map<SeriesKey, Histogram> merged = new HashMap<>();
+        for (ClosedWindow window : closedWindows) {
+            window.histograms.forEach((key, bytes) -> {
+                if (matches(key, urlFilter, metricFilter)) {
+                    merge(merged, key, urlFilter, decompress(bytes));
+                }
+            });
+        }
+        currentWindow.forEach((key, histogram) -> {
+            if (matches(key, urlFilter, metricFilter)) {
+                merge(merged, key, urlFilter, histogram);
+            }
+        });
+
+        List<Map<String, Object>> series = new ArrayList<>();
+        merged.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(SeriesKey::url).thenComparing(SeriesKey::metric)))
+                .forEach(entry -> series.add(describe(entry.getKey(), entry.getValue())));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("from", (closedWindows.isEmpty() ? currentWindowStart : closedWindows.peekFirst().start).toString());
+        result.put("to", clock.instant().toString());
+        result.put("series", series);
+        result.put("recorded", recorded.sum());
+        result.put("rejected", rejected.sum());
+        return result;
+    }
+
+    private void harvest() {
+        recorders.forEach((key, recorder) -> {
+            Histogram interval = new Histogram(SIGNIFICANT_DIGITS);
+            recorder.getIntervalHistogramInto(interval);
+            if (interval.getTotalCount() > 0) {
+                currentWindow.merge(key, interval, (existing, added) -> {
+                    existing.add(added);
+                    return existing;
+                });
+            }
+        });
+    }
+
+    private static boolean matches(SeriesKey key, String url, String metric) {
+        return (url == null || url.equals(key.url())) && (metric == null || metric.equals(key.metric()));
+    }
+
+    private static void merge(Map<SeriesKey, Histogram> merged, SeriesKey key, String urlFilter, Histogram histogram) {
+        SeriesKey target = urlFilter == null ? new SeriesKey(ALL_URLS, key.metric()) : key;
+        Histogram sum = merged.computeIfAbsent(target, k -> new Histogram(SIGNIFICANT_DIGITS));
+        sum.add(histogram);
+    }
+
+    private static Map<String, Object> describe(SeriesKey key, Histogram histogram) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("url", key.url());
+        description.put("metric", key.metric());
+        description.put("count", histogram.getTotalCount());
+        description.put("p50", histogram.getValueAtPercentile(50) / SCALE);
+        description.put("p95", histogram.getValueAtPercentile(95) / SCALE);
+        description.put("p99", histogram.getValueAtPercentile(99) / SCALE);
+        description.put("max", histogram.getMaxValue() / SCALE);
+        description.put("mean", histogram.getMean() / SCALE);
+        return description;
+    }
+
+    private static byte[] compress(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] bytes = new byte[length];
+        buffer.flip();
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static Histogram decompress(byte[] bytes) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt stored histogram", e);
+        }
+    }
+
+    private record SeriesKey(String url, String metric) {
+    }
+
+    private static final class ClosedWindow {
+        private final Instant start;
+        private final Map<SeriesKey, byte[]> histograms;
+
+        ClosedWindow(Instant start, Map<SeriesKey, byte[]> histograms) {
+            this.start = start;
+            this.histograms = histograms;
+        }
+    }
+}
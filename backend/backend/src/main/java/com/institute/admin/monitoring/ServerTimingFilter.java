@@ -0,0 +1,36 @@
+package com.institute.admin.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Times requests on the server and records them under the matched route
+ * pattern, so they line up with the client-side reports for the same route
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final ApiLatencyAggregator aggregator;
+
+    public ServerTimingFilter(ApiLatencyAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : request.getRequestURI();
+            aggregator.recordServer(route, System.nanoTime() - start, response.getStatus());
+        }
+    }
+}
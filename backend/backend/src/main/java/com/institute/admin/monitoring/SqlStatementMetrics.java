@@ -0,0 +1,234 @@
+package com.institute.admin.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement execution times from the JDBC proxy, in place of show-sql.
+ *
+ * Every statement is aggregated under its fingerprint: the SQL with literals
+ * replaced by {@code ?}, IN lists collapsed and whitespace normalized, so the
+ * same query with different values or list lengths is one row. Raw SQL strings
+ * are mapped to their aggregate once, after which recording is a map lookup
+ * and a few {@link LongAdder} updates. Times are taken with
+ * {@link System#nanoTime()} around each execution and aggregated in
+ * nanoseconds, as most statements finish well within a millisecond; they are
+ * reported in microseconds. Statements slower than the threshold
+ * are logged from a background thread through a bounded queue; when the queue
+ * is full the log line is dropped and counted, never the query delayed.
+ */
+@Component
+public class SqlStatementMetrics implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+    private static final String STARTED_AT = SqlStatementMetrics.class.getName() + ".startedAt";
+
+    /** Fingerprint under which statements are aggregated once the fingerprint limit is reached */
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private final Duration slowThreshold;
+    private final long slowThresholdNanos;
+    private final int maxFingerprints;
+    private final LongSupplier nanoTime;
+    private final ThreadPoolExecutor slowLogWriter;
+
+    private final ConcurrentHashMap<String, StatementStats> byFingerprint = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StatementStats> bySql = new ConcurrentHashMap<>();
+    private final LongAdder slowStatements = new LongAdder();
+    private final LongAdder droppedSlowLogs = new LongAdder();
+
+    @Autowired
+    public SqlStatementMetrics(@Value("${institute.diagnostics.sql.slow-threshold:200ms}") Duration slowThreshold,
+                               @Value("${institute.diagnostics.sql.max-fingerprints:500}") int maxFingerprints,
+                               @Value("${institute.diagnostics.sql.slow-log-queue:1000}") int slowLogQueue) {
+        this(slowThreshold, maxFingerprints, slowLogQueue, System::nanoTime);
+    }
+
+    SqlStatementMetrics(Duration slowThreshold, int maxFingerprints, int slowLogQueue, LongSupplier nanoTime) {
+        if (maxFingerprints < 1 || slowLogQueue < 1) {
+            throw new IllegalArgumentException("Fingerprint limit and slow log queue must be at least 1");
+        }
+        this.slowThreshold = slowThreshold;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.nanoTime = nanoTime;
+        this.slowLogWriter = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(slowLogQueue),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-sql-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedSlowLogs.increment());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // The proxy's own elapsed time is in whole milliseconds, too coarse for most statements
+        execInfo.addCustomValue(STARTED_AT, nanoTime.getAsLong());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        long elapsedNanos = startedAt != null
+                ? nanoTime.getAsLong() - startedAt
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        boolean failed = !execInfo.isSuccess();
+        // A batch reports one elapsed time for all of its statements
+        int executions = execInfo.isBatch() ? Math.max(1, execInfo.getBatchSize()) : 1;
+        for (QueryInfo queryInfo : queryInfoList) {
+            record(queryInfo.getQuery(), elapsedNanos, executions, failed);
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            logSlow(execInfo, queryInfoList, elapsedNanos);
+        }
+    }
+
+    void record(String sql, long elapsedNanos, int executions, boolean failed) {
+        StatementStats stats = statsFor(sql);
+        stats.calls.increment();
+        stats.executions.add(executions);
+        stats.totalNanos.add(elapsedNanos);
+        stats.maxNanos.accumulate(elapsedNanos);
+        if (failed) {
+            stats.failures.increment();
+        }
+    }
+
+    private StatementStats statsFor(String sql) {
+        StatementStats stats = bySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String fingerprint = fingerprint(sql);
+        if (!byFingerprint.containsKey(fingerprint) && byFingerprint.size() >= maxFingerprints) {
+            fingerprint = OTHER_STATEMENTS;
+        }
+        stats = byFingerprint.computeIfAbsent(fingerprint, StatementStats::new);
+        // Raw SQL with inlined literals can be unbounded, so only remember it while there is room
+        if (bySql.size() < maxFingerprints * 4) {
+            bySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    private void logSlow(ExecutionInfo execInfo, List<QueryInfo> queryInfoList, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        int statements = queryInfoList.size();
+        boolean batch = execInfo.isBatch();
+        int batchSize = execInfo.getBatchSize();
+        slowLogWriter.execute(() -> log.warn("Slow SQL ({} ms{}{}): {}", elapsedMillis,
+                batch ? ", batch of " + batchSize : "",
+                statements > 1 ? ", " + statements + " statements" : "",
+                sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql));
+    }
+
+    /**
+     * Normalized form of a statement that is the same for every execution of the same query
+     */
+    static String fingerprint(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return IN_LIST.matcher(normalized).replaceAll("in (...)");
+    }
+
+    /**
+     * Statement fingerprints by total time spent, with the slow-log counters
+     *
+     * @param limit Maximum number of fingerprints returned
+     */
+    public Map<String, Object> getSummary(int limit) {
+        List<Map<String, Object>> statements = new ArrayList<>();
+        byFingerprint.values().stream()
+                .map(StatementStats::describe)
+                .sorted(Comparator.comparingLong((Map<String, Object> s) -> (Long) s.get("totalMicros")).reversed())
+                .limit(Math.max(0, limit))
+                .forEach(statements::add);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("slowThresholdMillis", slowThreshold.toMillis());
+        summary.put("slowStatements", slowStatements.sum());
+        summary.put("droppedSlowLogs", droppedSlowLogs.sum());
+        summary.put("fingerprints", byFingerprint.size());
+        summary.put("statements", statements);
+        return summary;
+    }
+
+    /**
+     * Forgets all aggregates
+     */
+    public void reset() {
+        bySql.clear();
+        byFingerprint.clear();
+        slowStatements.reset();
+        droppedSlowLogs.reset();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        slowLogWriter.shutdown();
+        slowLogWriter.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static final class StatementStats {
+        private final String fingerprint;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder failures = new LongAdder();
+
+        StatementStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        Map<String, Object> describe() {
+            long callCount = calls.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("sql", fingerprint);
+            description.put("calls", callCount);
+            description.put("executions", executions.sum());
+            description.put("totalMicros", TimeUnit.NANOSECONDS.toMicros(total));
+            description.put("meanMicros", callCount == 0 ? 0.0 : Math.round(total / 10.0 / callCount) / 100.0);
+            description.put("maxMicros", TimeUnit.NANOSECONDS.toMicros(maxNanos.get()));
+            description.put("failures", failures.sum());
+            return description;
+        }
+    }
+}
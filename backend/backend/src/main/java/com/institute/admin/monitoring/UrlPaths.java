@@ -0,0 +1,46 @@
+package com.institute.admin.monitoring;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces URLs to low-cardinality path keys for the monitoring aggregates
+ */
+final class UrlPaths {
+
+    static final String OTHER = "(other)";
+    private static final int MAX_LENGTH = 200;
+    private static final Pattern ID_SEGMENT = Pattern.compile("\\d+|[0-9a-fA-F]{8,}|[0-9a-fA-F-]{36}");
+
+    private UrlPaths() {
+    }
+
+    /**
+     * Path of the URL without host, query or fragment, with id-like segments
+     * replaced by {@code {id}} so that e.g. /courses/3 and /courses/4 share a key
+     * (and match the route pattern /courses/{id})
+     */
+    static String normalize(String url) {
+        if (url == null || url.isBlank()) {
+            return "/";
+        }
+        String path;
+        try {
+            path = URI.create(url.trim()).getRawPath();
+        } catch (IllegalArgumentException e) {
+            return OTHER;
+        }
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        StringBuilder normalized = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            normalized.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        String result = normalized.length() == 0 ? "/" : normalized.toString();
+        return result.length() > MAX_LENGTH ? result.substring(0, MAX_LENGTH) : result;
+    }
+}
@@ -0,0 +1,98 @@
+package com.institute.admin.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limits contact form submissions per client IP and per sender email.
+ *
+ * A submission needs a permit from both limiters; the IP limiter is asked first
+ * so that a flood from one address is stopped without touching the email
+ * buckets. Fully refilled buckets are swept on a schedule.
+ */
+@Component
+public class ContactRateLimiter {
+
+    private final boolean enabled;
+    private final GcraRateLimiter byIp;
+    private final GcraRateLimiter byEmail;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+
+    @Autowired
+    public ContactRateLimiter(@Value("${institute.ratelimit.contact.enabled:true}") boolean enabled,
+                              @Value("${institute.ratelimit.contact.ip.limit:20}") int ipLimit,
+                              @Value("${institute.ratelimit.contact.ip.period:1m}") Duration ipPeriod,
+                              @Value("${institute.ratelimit.contact.ip.burst:10}") int ipBurst,
+                              @Value("${institute.ratelimit.contact.email.limit:5}") int emailLimit,
+                              @Value("${institute.ratelimit.contact.email.period:10m}") Duration emailPeriod,
+                              @Value("${institute.ratelimit.contact.email.burst:3}") int emailBurst) {
+        this.enabled = enabled;
+        this.byIp = new GcraRateLimiter(ipLimit, ipPeriod, ipBurst, System::nanoTime);
+        this.byEmail = new GcraRateLimiter(emailLimit, emailPeriod, emailBurst, System::nanoTime);
+    }
+
+    /**
+     * Takes a permit for a submission
+     *
+     * @param clientIp Remote address of the request
+     * @param email Sender email, may be null
+     * @return 0 if the submission may proceed, otherwise milliseconds until it may be retried
+     */
+    public long acquire(String clientIp, String email) {
+        if (!enabled) {
+            return 0;
+        }
+        long wait = byIp.tryAcquire(clientIp == null ? "" : clientIp);
+        if (wait > 0) {
+            rejectedByIp.increment();
+            return toMillis(wait);
+        }
+        if (email != null && !email.trim().isEmpty()) {
+            wait = byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                rejectedByEmail.increment();
+                return toMillis(wait);
+            }
+        }
+        allowed.increment();
+        return 0;
+    }
+
+    /**
+     * Removes buckets that have refilled, keeping memory proportional to active clients
+     */
+    @Scheduled(fixedDelayString = "${institute.ratelimit.contact.sweep-interval:1m}")
+    public void evictIdle() {
+        byIp.evictIdle();
+        byEmail.evictIdle();
+    }
+
+    /**
+     * Decision counters and the number of tracked keys
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("allowed", allowed.sum());
+        stats.put("rejectedByIp", rejectedByIp.sum());
+        stats.put("rejectedByEmail", rejectedByEmail.sum());
+        stats.put("trackedIps", byIp.size());
+        stats.put("trackedEmails", byEmail.size());
+        return stats;
+    }
+
+    private static long toMillis(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+}
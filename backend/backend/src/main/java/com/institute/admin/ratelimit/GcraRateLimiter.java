@@ -0,0 +1,79 @@
+package com.institute.admin.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyed token bucket implemented as GCRA (generic cell rate algorithm).
+ *
+ * Each key holds a single "theoretical arrival time" in an {@link AtomicLong};
+ * acquiring a permit is one compare-and-set, so there are no locks and no refill
+ * timers. A key whose arrival time has passed has a full bucket, which is
+ * exactly the state of a key that was never seen, so such keys can be evicted
+ * without changing later decisions (a request racing the eviction can at
+ * worst be granted one extra permit).
+ */
+public class GcraRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    /**
+     * @param limit Permits per period, sustained
+     * @param period Length of the period
+     * @param burst Permits that may be taken at once by an idle key
+     * @param clock Nanosecond clock, {@link System#nanoTime} outside tests
+     */
+    public GcraRateLimiter(int limit, Duration period, int burst, LongSupplier clock) {
+        if (limit < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit, burst and period must be positive");
+        }
+        this.emissionIntervalNanos = period.toNanos() / limit;
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one permit for the key if one is available
+     *
+     * @return 0 if the permit was granted, otherwise nanoseconds until one will be
+     */
+    public long tryAcquire(String key) {
+        AtomicLong arrival = arrivals.computeIfAbsent(key, k -> new AtomicLong(clock.getAsLong()));
+        while (true) {
+            long now = clock.getAsLong();
+            long tat = arrival.get();
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            long wait = next - burstToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops keys whose bucket has refilled completely
+     *
+     * @return Number of keys removed
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = arrivals.size();
+        arrivals.values().removeIf(arrival -> arrival.get() - now <= 0);
+        return before - arrivals.size();
+    }
+
+    /**
+     * Number of keys currently tracked
+     */
+    public int size() {
+        return arrivals.size();
+    }
+}
@@ -1,9 +1,46 @@
 package com.institute.admin.repository;
 
+import com.institute.admin.dto.CourseSummary;
 import com.institute.admin.model.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Every course; the id list is kept in the query cache and the rows come from the entity cache
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Course> findAll();
+
+    /**
+     * Keyset page: rows with id greater than {@code id}, in id order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Course> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Every course as a summary, in id order, without loading entities
+     */
+    @Query("select new com.institute.admin.dto.CourseSummary(c.id, c.name, c.level, c.category, c.price, c.rating) "
+            + "from Course c order by c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<CourseSummary> findAllSummaries();
+
+    /**
+     * Keyset page of summaries: rows with id greater than {@code id}, in id order
+     */
+    @Query("select new com.institute.admin.dto.CourseSummary(c.id, c.name, c.level, c.category, c.price, c.rating) "
+            + "from Course c where c.id > :id order by c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<CourseSummary> findSummariesByIdGreaterThan(Long id, Limit limit);
+}
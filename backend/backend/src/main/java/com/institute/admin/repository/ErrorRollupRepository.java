@@ -0,0 +1,18 @@
+package com.institute.admin.repository;
+
+import com.institute.admin.model.ErrorRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ErrorRollupRepository extends JpaRepository<ErrorRollup, Long> {
+
+    /**
+     * Existing rollups for the given minutes, so late counts can be merged into them
+     */
+    List<ErrorRollup> findByMinuteStartIn(Collection<Instant> minuteStarts);
+}
@@ -0,0 +1,130 @@
+package com.institute.admin.repository;
+
+import com.institute.admin.dto.FieldSelection;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads only the requested columns of an entity.
+ *
+ * The selection becomes the SQL column list of a Criteria tuple query, so a
+ * sparse read fetches, holds and serializes only those columns instead of
+ * loading whole entities and dropping fields afterwards. Rows are maps keyed by
+ * attribute name in the requested order; nothing is attached to the
+ * persistence context, and the query cache is used for entities marked
+ * {@link Cacheable}. Field names are checked against the JPA metamodel and
+ * only basic attributes can be selected.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class FieldSelectionRepository {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public FieldSelectionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * All rows of an entity in id order
+     *
+     * @throws IllegalArgumentException if a field is not a basic attribute of the entity
+     */
+    public List<Map<String, Object>> findAll(Class<?> entityClass, FieldSelection selection) {
+        return select(entityClass, selection, null, null, null);
+    }
+
+    /**
+     * Up to {@code limit} rows with an id greater than {@code afterId}, in id order
+     *
+     * @throws IllegalArgumentException if a field is not a basic attribute of the entity
+     */
+    public List<Map<String, Object>> findByIdGreaterThan(Class<?> entityClass, FieldSelection selection, long afterId, int limit) {
+        return select(entityClass, selection, afterId, null, limit);
+    }
+
+    /**
+     * The row with the given id
+     *
+     * @throws IllegalArgumentException if a field is not a basic attribute of the entity
+     */
+    public Optional<Map<String, Object>> findById(Class<?> entityClass, FieldSelection selection, Long id) {
+        return select(entityClass, selection, null, id, null).stream().findFirst();
+    }
+
+    private List<Map<String, Object>> select(Class<?> entityClass, FieldSelection selection,
+                                             Long afterId, Long id, Integer limit) {
+        List<String> fields = selection.getFields();
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        for (String field : fields) {
+            checkBasicAttribute(entityType, field);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityClass);
+        List<Selection<?>> columns = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            columns.add(root.get(field).alias(field));
+        }
+        query.multiselect(columns);
+        if (afterId != null) {
+            query.where(cb.greaterThan(root.get(FieldSelection.ID), afterId));
+        }
+        if (id != null) {
+            query.where(cb.equal(root.get(FieldSelection.ID), id));
+        }
+        query.orderBy(cb.asc(root.get(FieldSelection.ID)));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        // Entities kept in the second-level cache are read often; their sparse reads share the query cache
+        if (entityClass.isAnnotationPresent(Cacheable.class)) {
+            typedQuery.setHint(HibernateHints.HINT_CACHEABLE, true);
+        }
+        List<Tuple> tuples = typedQuery.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static void checkBasicAttribute(EntityType<?> entityType, String field) {
+        Attribute<?, ?> attribute;
+        try {
+            attribute = entityType.getAttribute(field);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown field: " + field, e);
+        }
+        if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+            throw new IllegalArgumentException("Field cannot be selected: " + field);
+        }
+    }
+}
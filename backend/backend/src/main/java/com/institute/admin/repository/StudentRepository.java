@@ -1,9 +1,31 @@
 package com.institute.admin.repository;
 
 import com.institute.admin.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Keyset page: rows with id greater than {@code id}, in id order
+     */
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Forward-only scan of the whole table in id order, for exports.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Student> streamAllByOrderByIdAsc();
+}
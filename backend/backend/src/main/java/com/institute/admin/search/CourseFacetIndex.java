@@ -0,0 +1,377 @@
+package com.institute.admin.search;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.services.CourseChangedEvent;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory facet postings for the course catalog.
+ *
+ * Every course gets a dense ordinal, and each facet value keeps a {@link BitSet}
+ * of the ordinals that carry it. Filtering is an AND across facets of the OR of
+ * the selected values, and facet counts are bitset intersections, so neither
+ * needs a query against the database.
+ */
+@Component
+public class CourseFacetIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    static final int COMPACTION_MIN_DEAD = 1024;
+
+    /**
+     * The facets exposed to the course filters, with how a course maps to a value
+     */
+    public enum Facet {
+        LEVEL("level", Course::getLevel),
+        CATEGORY("category", Course::getCategory),
+        PRICE("price", course -> priceBand(course.getPrice())),
+        RATING("rating", course -> ratingBand(course.getRating()));
+
+        private final String key;
+        private final Function<Course, String> extractor;
+
+        Facet(String key, Function<Course, String> extractor) {
+            this.key = key;
+            this.extractor = extractor;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        String valueOf(Course course) {
+            return extractor.apply(course);
+        }
+    }
+
+    private final CourseRepository courseRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Postings current = new Postings();
+    // Writes seen while a rebuild is loading, replayed onto the new postings before they are swapped in
+    private List<Consumer<Postings>> pendingChanges;
+
+    @Autowired
+    public CourseFacetIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Loads the whole catalog into fresh postings, one keyset page at a time,
+     * and swaps them in. Queries keep using the previous postings until then,
+     * and writes that arrive during the load are applied to both, so a course
+     * deleted after its page was read does not come back.
+     * Ordinals are assigned in id order, so iterating a bitset yields ids in order.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Postings rebuilt = new Postings();
+        boolean loaded = false;
+        try {
+            long lastId = 0L;
+            List<Course> batch;
+            do {
+                batch = courseRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                for (Course course : batch) {
+                    rebuilt.index(course);
+                    lastId = course.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    pendingChanges.forEach(change -> change.accept(rebuilt));
+                    current = rebuilt;
+                }
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies a catalog write to the postings
+     */
+    @EventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.getType() == CourseChangedEvent.Type.DELETED) {
+            remove(event.getCourseId());
+        } else {
+            index(event.getCourse());
+        }
+    }
+
+    /**
+     * Adds or replaces a course
+     */
+    public void index(Course course) {
+        apply(postings -> postings.index(course));
+    }
+
+    /**
+     * Removes a course
+     */
+    public void remove(Long courseId) {
+        apply(postings -> postings.remove(courseId));
+    }
+
+    private void apply(Consumer<Postings> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ordinals in use, live or not yet reclaimed
+     */
+    int ordinalCount() {
+        lock.readLock().lock();
+        try {
+            return current.idByOrdinal.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filters the catalog and counts facet values.
+     *
+     * Counts for a facet are computed with every filter applied except that
+     * facet's own, so the UI can show how many results each alternative would give.
+     *
+     * @param filters Selected values per facet; values of one facet are OR-ed
+     * @param offset Number of matching courses to skip
+     * @param limit Maximum number of course ids to return
+     * @return Matching ids (in id order), total matches and facet counts
+     */
+    public FacetResult query(Map<Facet, ? extends Collection<String>> filters, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Postings index = current;
+            BitSet live = index.live;
+            Map<Facet, BitSet> selections = new EnumMap<>(Facet.class);
+            for (Map.Entry<Facet, ? extends Collection<String>> filter : filters.entrySet()) {
+                if (filter.getValue() != null && !filter.getValue().isEmpty()) {
+                    selections.put(filter.getKey(), index.union(filter.getKey(), filter.getValue()));
+                }
+            }
+
+            BitSet matches = (BitSet) live.clone();
+            selections.values().forEach(matches::and);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                BitSet base = (BitSet) live.clone();
+                for (Map.Entry<Facet, BitSet> selection : selections.entrySet()) {
+                    if (selection.getKey() != facet) {
+                        base.and(selection.getValue());
+                    }
+                }
+                Map<String, Integer> valueCounts = new LinkedHashMap<>();
+                for (Map.Entry<String, BitSet> value : index.postings.get(facet).entrySet()) {
+                    BitSet intersection = (BitSet) value.getValue().clone();
+                    intersection.and(base);
+                    int count = intersection.cardinality();
+                    if (count > 0) {
+                        valueCounts.put(value.getKey(), count);
+                    }
+                }
+                counts.put(facet.getKey(), valueCounts);
+            }
+
+            List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, 256)));
+            int skipped = 0;
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0 && ids.size() < limit; ordinal = matches.nextSetBit(ordinal + 1)) {
+                if (skipped++ >= offset) {
+                    ids.add(index.idByOrdinal.get(ordinal));
+                }
+            }
+            return new FacetResult(ids, matches.cardinality(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String priceBand(Double price) {
+        if (price == null) {
+            return null;
+        }
+        if (price <= 0) {
+            return "free";
+        }
+        if (price < 100) {
+            return "under-100";
+        }
+        if (price < 500) {
+            return "100-500";
+        }
+        if (price < 1000) {
+            return "500-1000";
+        }
+        return "1000-and-up";
+    }
+
+    static String ratingBand(Double rating) {
+        if (rating == null) {
+            return "unrated";
+        }
+        if (rating >= 4.5) {
+            return "4.5-and-up";
+        }
+        if (rating >= 4.0) {
+            return "4.0-4.5";
+        }
+        if (rating >= 3.0) {
+            return "3.0-4.0";
+        }
+        return "below-3.0";
+    }
+
+    /**
+     * Ordinals, live set and per-value bitsets for one generation of the index.
+     *
+     * Deleted courses leave their ordinal unused; once unused ordinals outnumber
+     * live ones (and pass {@link #COMPACTION_MIN_DEAD}) the live ordinals are
+     * renumbered densely, keeping their order, so the bitsets and the id list do
+     * not grow with every course ever created.
+     */
+    private static final class Postings {
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+        private List<Long> idByOrdinal = new ArrayList<>();
+        private BitSet live = new BitSet();
+        private final Map<Facet, Map<String, BitSet>> postings = new EnumMap<>(Facet.class);
+
+        Postings() {
+            for (Facet facet : Facet.values()) {
+                postings.put(facet, new TreeMap<>());
+            }
+        }
+
+        void index(Course course) {
+            Integer ordinal = ordinalById.get(course.getId());
+            if (ordinal == null) {
+                ordinal = idByOrdinal.size();
+                idByOrdinal.add(course.getId());
+                ordinalById.put(course.getId(), ordinal);
+            } else {
+                clearOrdinal(ordinal);
+            }
+            live.set(ordinal);
+            for (Facet facet : Facet.values()) {
+                String value = facet.valueOf(course);
+                if (value != null) {
+                    postings.get(facet).computeIfAbsent(value, v -> new BitSet()).set(ordinal);
+                }
+            }
+        }
+
+        void remove(Long courseId) {
+            Integer ordinal = ordinalById.remove(courseId);
+            if (ordinal == null) {
+                return;
+            }
+            live.clear(ordinal);
+            clearOrdinal(ordinal);
+            int dead = idByOrdinal.size() - ordinalById.size();
+            if (dead >= COMPACTION_MIN_DEAD && dead > ordinalById.size()) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            int[] remap = new int[idByOrdinal.size()];
+            List<Long> compacted = new ArrayList<>(ordinalById.size());
+            for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                remap[ordinal] = compacted.size();
+                Long id = idByOrdinal.get(ordinal);
+                ordinalById.put(id, compacted.size());
+                compacted.add(id);
+            }
+            for (Map<String, BitSet> facetPostings : postings.values()) {
+                facetPostings.replaceAll((value, posting) -> {
+                    BitSet renumbered = new BitSet(compacted.size());
+                    posting.stream().forEach(ordinal -> renumbered.set(remap[ordinal]));
+                    return renumbered;
+                });
+            }
+            idByOrdinal = compacted;
+            live = new BitSet(compacted.size());
+            live.set(0, compacted.size());
+        }
+
+        BitSet union(Facet facet, Collection<String> values) {
+            BitSet union = new BitSet();
+            Map<String, BitSet> facetPostings = postings.get(facet);
+            for (String value : values) {
+                BitSet posting = facetPostings.get(value);
+                if (posting != null) {
+                    union.or(posting);
+                }
+            }
+            return union;
+        }
+
+        private void clearOrdinal(int ordinal) {
+            for (Map<String, BitSet> facetPostings : postings.values()) {
+                facetPostings.values().removeIf(posting -> {
+                    posting.clear(ordinal);
+                    return posting.isEmpty();
+                });
+            }
+        }
+    }
+
+    /**
+     * One page of a faceted query
+     */
+    public static class FacetResult {
+        private final List<Long> ids;
+        private final int total;
+        private final Map<String, Map<String, Integer>> counts;
+
+        public FacetResult(List<Long> ids, int total, Map<String, Map<String, Integer>> counts) {
+            this.ids = ids;
+            this.total = total;
+            this.counts = counts;
+        }
+
+        public List<Long> getIds() { return ids; }
+        public int getTotal() { return total; }
+        public Map<String, Map<String, Integer>> getCounts() { return counts; }
+    }
+}
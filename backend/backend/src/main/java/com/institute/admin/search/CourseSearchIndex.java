@@ -0,0 +1,285 @@
+package com.institute.admin.search;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.services.CourseChangedEvent;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the course catalog with BM25 ranking.
+ *
+ * Postings map each term to the courses containing it and a field-weighted
+ * term frequency. The index is built once at startup and then kept current
+ * from {@link CourseChangedEvent}s, so queries never touch the database.
+ */
+@Component
+public class CourseSearchIndex {
+
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field weights applied to term frequencies (a simple BM25F)
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int INSTRUCTOR_WEIGHT = 2;
+    private static final int FEATURES_WEIGHT = 1;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MAX_PREFIX_EXPANSIONS = 32;
+    private static final double PREFIX_BOOST = 0.5;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "by", "for", "in", "is", "of", "on", "or", "the", "to", "with");
+
+    private final CourseRepository courseRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (course id -> weighted term frequency); sorted for prefix lookups
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // course id -> its terms, needed to remove a course's postings
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    @Autowired
+    public CourseSearchIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Loads the whole catalog into the index, one keyset page at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+        long lastId = 0L;
+        List<Course> batch;
+        do {
+            batch = courseRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (Course course : batch) {
+                index(course);
+                lastId = course.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    /**
+     * Applies a catalog write to the index
+     */
+    @EventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.getType() == CourseChangedEvent.Type.DELETED) {
+            remove(event.getCourseId());
+        } else {
+            index(event.getCourse());
+        }
+    }
+
+    /**
+     * Adds or replaces a course in the index
+     */
+    public void index(Course course) {
+        Map<String, Integer> terms = new HashMap<>();
+        addField(terms, course.getName(), NAME_WEIGHT);
+        addField(terms, course.getCategory(), CATEGORY_WEIGHT);
+        addField(terms, course.getInstructor(), INSTRUCTOR_WEIGHT);
+        addField(terms, course.getFeatures(), FEATURES_WEIGHT);
+        addField(terms, course.getDescription(), DESCRIPTION_WEIGHT);
+        int length = 0;
+        for (int tf : terms.values()) {
+            length += tf;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(course.getId());
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(course.getId(), term.getValue());
+            }
+            documents.put(course.getId(), terms);
+            documentLengths.put(course.getId(), length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a course from the index
+     */
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks courses against a free-text query. The last query term also matches
+     * as a prefix so that partially typed words find results.
+     *
+     * @param query The user's query
+     * @param limit Maximum number of results
+     * @return Course ids, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return Collections.emptyList();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            // term -> boost; prefix expansions of the last term count for less than exact matches
+            Map<String, Double> expanded = new LinkedHashMap<>();
+            for (String term : terms) {
+                expanded.put(term, 1.0);
+            }
+            String last = terms.get(terms.size() - 1);
+            SortedMap<String, Map<Long, Integer>> prefixed = postings.subMap(last, last + Character.MAX_VALUE);
+            int expansions = 0;
+            for (String term : prefixed.keySet()) {
+                if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                expanded.putIfAbsent(term, PREFIX_BOOST);
+            }
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map.Entry<String, Double> term : expanded.entrySet()) {
+                Map<Long, Integer> posting = postings.get(term.getKey());
+                if (posting == null) {
+                    continue;
+                }
+                double idf = term.getValue()
+                        * Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    double norm = K1 * (1 - B + B * documentLengths.get(entry.getKey()) / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed courses
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addField(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static List<Long> topK(Map<Long, Double> scores, int limit) {
+        // Min-heap of the best hits so far; ties go to the lower id
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>((a, b) -> {
+            int byScore = Double.compare(a.getValue(), b.getValue());
+            return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+        });
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private void removeLocked(Long courseId) {
+        Map<String, Integer> terms = documents.remove(courseId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(courseId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(courseId);
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,50 +1,202 @@
 package com.institute.admin.services;
 
+import com.institute.admin.cache.CatalogVersion;
+import com.institute.admin.cache.CourseCatalogCache;
+import com.institute.admin.dto.CourseBatchResult;
+import com.institute.admin.dto.CourseSummary;
+import com.institute.admin.dto.CursorPage;
+import com.institute.admin.dto.FacetedCourseResult;
+import com.institute.admin.dto.FieldSelection;
 import com.institute.admin.model.Course;
 import com.institute.admin.model.Student;
 import com.institute.admin.model.Message;
 import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.repository.FieldSelectionRepository;
 import com.institute.admin.repository.StudentRepository;
 import com.institute.admin.repository.MessageRepository;
+import com.institute.admin.search.CourseFacetIndex;
+import com.institute.admin.search.CourseSearchIndex;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "institute.admin.service", description = "AdminService method latency", histogram = true)
 public class AdminService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_SEARCH_RESULTS = 20;
+    public static final int MAX_SEARCH_RESULTS = 100;
+
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
     private final MessageRepository messageRepository;
+    private final FieldSelectionRepository fieldSelectionRepository;
+    private final CourseSearchIndex courseSearchIndex;
+    private final CourseFacetIndex courseFacetIndex;
+    private final CourseCatalogCache courseCatalogCache;
+    private final CatalogVersion catalogVersion;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AdminService(CourseRepository courseRepository, StudentRepository studentRepository, MessageRepository messageRepository) {
+    public AdminService(CourseRepository courseRepository, StudentRepository studentRepository, MessageRepository messageRepository,
+                        FieldSelectionRepository fieldSelectionRepository, CourseSearchIndex courseSearchIndex, CourseFacetIndex courseFacetIndex,
+                        CourseCatalogCache courseCatalogCache, CatalogVersion catalogVersion,
+                        ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
         this.studentRepository = studentRepository;
         this.messageRepository = messageRepository;
+        this.fieldSelectionRepository = fieldSelectionRepository;
+        this.courseSearchIndex = courseSearchIndex;
+        this.courseFacetIndex = courseFacetIndex;
+        this.courseCatalogCache = courseCatalogCache;
+        this.catalogVersion = catalogVersion;
+        this.eventPublisher = eventPublisher;
     }
 
     // ---------------- Course Management Methods ----------------
     /**
-     * Retrieves all courses from the database
+     * Retrieves all courses, from the catalog cache when possible
      *
      * @return List of all courses
      */
     public List<Course> getAllCourses() {
-        return courseRepository.findAll();
+        return courseCatalogCache.getAllCourses(courseRepository::findAll);
+    }
+
+    /**
+     * Retrieves all courses as summaries for list views, from the catalog cache when possible
+     *
+     * @return Summary of every course, in id order
+     */
+    public List<CourseSummary> getCourseSummaries() {
+        return courseCatalogCache.getCourseSummaries(courseRepository::findAllSummaries);
+    }
+
+    /**
+     * Counts courses without loading them
+     *
+     * @return Number of courses
+     */
+    public long getCourseCount() {
+        return courseRepository.count();
+    }
+
+    /**
+     * Retrieves one page of courses in id order
+     *
+     * @param after Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size (capped at {@link #MAX_PAGE_SIZE})
+     * @return The page and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor or limit is invalid
+     */
+    public CursorPage<Course> getCoursePage(String after, Integer limit) {
+        long afterId = CursorPage.decodeCursor(after);
+        int pageSize = resolvePageSize(limit);
+        return CursorPage.of(courseRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)),
+                pageSize, Course::getId);
     }
 
     /**
-     * Retrieves a specific course by its ID
+     * Retrieves one page of course summaries in id order
+     *
+     * @param after Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size (capped at {@link #MAX_PAGE_SIZE})
+     * @return The page and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor or limit is invalid
+     */
+    public CursorPage<CourseSummary> getCourseSummaryPage(String after, Integer limit) {
+        long afterId = CursorPage.decodeCursor(after);
+        int pageSize = resolvePageSize(limit);
+        return CursorPage.of(courseRepository.findSummariesByIdGreaterThan(afterId, Limit.of(pageSize + 1)),
+                pageSize, CourseSummary::getId);
+    }
+
+    /**
+     * Retrieves a specific course by its ID, from the catalog cache when possible
      *
      * @param id The course ID
      * @return Optional containing the course if found
      */
     public Optional<Course> getCourseById(Long id) {
-        return courseRepository.findById(id);
+        return courseCatalogCache.getCourseById(id, courseRepository::findById);
+    }
+
+    /**
+     * Retrieves several courses by id, from the catalog cache when possible;
+     * all misses are loaded with a single query
+     *
+     * @param ids Course ids; duplicates are answered once
+     * @return The found courses in request order, and the ids that do not exist
+     */
+    public CourseBatchResult getCoursesByIds(List<Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return new CourseBatchResult(List.of(), List.of());
+        }
+        Map<Long, Course> byId = courseCatalogCache.getCourses(distinctIds, courseRepository::findAllById);
+        List<Course> courses = new ArrayList<>(byId.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Course course = byId.get(id);
+            if (course != null) {
+                courses.add(course);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new CourseBatchResult(courses, missingIds);
+    }
+
+    /**
+     * Full-text search over the course catalog, answered from the in-memory index
+     *
+     * @param query Free-text query
+     * @param limit Maximum number of results (capped at {@link #MAX_SEARCH_RESULTS})
+     * @return Matching courses, best match first
+     */
+    public List<Course> searchCourses(String query, Integer limit) {
+        int maxResults = limit == null ? DEFAULT_SEARCH_RESULTS : Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return loadCoursesInOrder(courseSearchIndex.search(query, maxResults));
+    }
+
+    /**
+     * Filters the catalog by facet values and returns one page with facet counts,
+     * answered from the in-memory facet postings
+     *
+     * @param filters Selected values per facet
+     * @param page Zero-based page number
+     * @param size Page size (capped at {@link #MAX_PAGE_SIZE})
+     * @return The page of matching courses and the facet counts
+     * @throws IllegalArgumentException if page or size is invalid
+     */
+    public FacetedCourseResult getFacetedCourses(Map<CourseFacetIndex.Facet, List<String>> filters, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page cannot be negative");
+        }
+        int pageSize = resolvePageSize(size);
+        int offset;
+        try {
+            offset = Math.multiplyExact(pageNumber, pageSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Page is out of range", e);
+        }
+        CourseFacetIndex.FacetResult result = courseFacetIndex.query(filters, offset, pageSize);
+        return new FacetedCourseResult(loadCoursesInOrder(result.getIds()), result.getTotal(),
+                pageNumber, pageSize, result.getCounts());
     }
 
     /**
@@ -57,7 +209,9 @@ public class AdminService {
         if (course.getName() == null || course.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Course name cannot be null or empty");
         }
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        onCourseChanged(CourseChangedEvent.created(savedCourse));
+        return savedCourse;
     }
 
     /**
@@ -76,7 +230,9 @@ public class AdminService {
             if (updatedCourse.getDescription() != null) {
                 course.setDescription(updatedCourse.getDescription());
             }
-            return courseRepository.save(course);
+            Course savedCourse = courseRepository.save(course);
+            onCourseChanged(CourseChangedEvent.updated(savedCourse));
+            return savedCourse;
         }).orElseThrow(() -> new RuntimeException("Course not found with id " + id));
     }
 
@@ -91,6 +247,46 @@ public class AdminService {
             throw new RuntimeException("Course not found with id " + id);
         }
         courseRepository.deleteById(id);
+        onCourseChanged(CourseChangedEvent.deleted(id));
+    }
+
+
+    /**
+     * ETag of the full course catalog at its current version
+     *
+     * @return A strong ETag
+     */
+    public String getCatalogETag() {
+        return catalogVersion.catalogETag();
+    }
+
+    /**
+     * ETag of one representation of the full course catalog at its current version
+     *
+     * @param variant Distinguishes representations (view and format)
+     * @return A strong ETag
+     */
+    public String getCatalogETag(String variant) {
+        return catalogVersion.catalogETag(catalogVersion.current(), variant);
+    }
+
+    /**
+     * ETag of a single course at the current catalog version
+     *
+     * @param id The course ID
+     * @return A strong ETag
+     */
+    public String getCourseETag(Long id) {
+        return catalogVersion.courseETag(id);
+    }
+
+    /**
+     * Hit, miss and load-time statistics of the course catalog cache
+     *
+     * @return Statistics per cache
+     */
+    public Map<String, Object> getCourseCacheStats() {
+        return courseCatalogCache.getStats();
     }
 
 
@@ -104,6 +300,19 @@ public class AdminService {
         return studentRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of students in id order
+     * @param after Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size (capped at {@link #MAX_PAGE_SIZE})
+     * @return The page and the cursor for the next one
+     */
+    public CursorPage<Student> getStudentPage(String after, Integer limit) {
+        long afterId = CursorPage.decodeCursor(after);
+        int pageSize = resolvePageSize(limit);
+        return CursorPage.of(studentRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)),
+                pageSize, Student::getId);
+    }
+
     /**
      * Retrieves a specific student by their ID
      * @param id The student ID
@@ -123,6 +332,19 @@ public class AdminService {
         return messageRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of messages in id order
+     * @param after Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size (capped at {@link #MAX_PAGE_SIZE})
+     * @return The page and the cursor for the next one
+     */
+    public CursorPage<Message> getMessagePage(String after, Integer limit) {
+        long afterId = CursorPage.decodeCursor(after);
+        int pageSize = resolvePageSize(limit);
+        return CursorPage.of(messageRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)),
+                pageSize, Message::getId);
+    }
+
     /**
      * Retrieves a specific message by its ID
      * @param id The message ID
@@ -138,6 +360,16 @@ public class AdminService {
      * @return The saved message with generated ID
      */
     public Message addMessage(Message message) {
+        validateMessage(message);
+        return messageRepository.save(message);
+    }
+
+    /**
+     * Checks that a message has a sender, an email and content
+     * @param message The message to check
+     * @throws IllegalArgumentException if a required field is missing
+     */
+    public void validateMessage(Message message) {
         if (message.getSenderName() == null || message.getSenderName().trim().isEmpty()) {
             throw new IllegalArgumentException("Sender name cannot be null or empty");
         }
@@ -147,6 +379,77 @@ public class AdminService {
         if (message.getContent() == null || message.getContent().trim().isEmpty()) {
             throw new IllegalArgumentException("Message content cannot be null or empty");
         }
-        return messageRepository.save(message);
+    }
+
+    // ---------------- Sparse Fieldset Methods ----------------
+
+    /**
+     * Retrieves the selected fields of every row of an entity, in id order.
+     * Only those columns are read from the database; the catalog cache is bypassed.
+     * @param entityClass Course, Student or Message
+     * @param selection Fields to read
+     * @return One map per row, keyed by field name
+     * @throws IllegalArgumentException if a field is not a basic attribute of the entity
+     */
+    public List<Map<String, Object>> getSparseRows(Class<?> entityClass, FieldSelection selection) {
+        return fieldSelectionRepository.findAll(entityClass, selection);
+    }
+
+    /**
+     * Retrieves the selected fields of one page of rows in id order
+     * @param entityClass Course, Student or Message
+     * @param selection Fields to read
+     * @param after Opaque cursor from the previous page, or null for the first page
+     * @param limit Requested page size (capped at {@link #MAX_PAGE_SIZE})
+     * @return The page and the cursor for the next one
+     * @throws IllegalArgumentException if a field, the cursor or the limit is invalid
+     */
+    public CursorPage<Map<String, Object>> getSparsePage(Class<?> entityClass, FieldSelection selection,
+                                                         String after, Integer limit) {
+        long afterId = CursorPage.decodeCursor(after);
+        int pageSize = resolvePageSize(limit);
+        return CursorPage.of(fieldSelectionRepository.findByIdGreaterThan(entityClass, selection, afterId, pageSize + 1),
+                pageSize, row -> (Long) row.get(FieldSelection.ID));
+    }
+
+    /**
+     * Retrieves the selected fields of one row
+     * @param entityClass Course, Student or Message
+     * @param selection Fields to read
+     * @param id The row ID
+     * @return Optional containing the row if found
+     * @throws IllegalArgumentException if a field is not a basic attribute of the entity
+     */
+    public Optional<Map<String, Object>> getSparseRow(Class<?> entityClass, FieldSelection selection, Long id) {
+        return fieldSelectionRepository.findById(entityClass, selection, id);
+    }
+
+    /**
+     * Invalidates the cached copies of a written course, notifies the in-memory
+     * catalog read models (search and facet indexes) and then bumps the catalog
+     * version, so a new ETag is only handed out once fresh data is readable
+     */
+    private void onCourseChanged(CourseChangedEvent event) {
+        courseCatalogCache.invalidate(event.getCourseId());
+        eventPublisher.publishEvent(event);
+        catalogVersion.increment();
+    }
+
+    private List<Course> loadCoursesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Course> byId = courseCatalogCache.getCourses(ids, courseRepository::findAllById);
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 }
@@ -0,0 +1,253 @@
+package com.institute.admin.services;
+
+import com.institute.admin.cache.CatalogVersion;
+import com.institute.admin.dto.CourseView;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the public course catalog from pre-serialized, pre-compressed bytes.
+ *
+ * For each view the catalog is serialized to JSON once per catalog version and
+ * compressed once with every supported content coding (brotli when the native
+ * encoder is available, gzip, and none). A request then only picks the
+ * encoding from {@code Accept-Encoding} and writes the stored array: there is
+ * no per-request serialization and no per-request compression. Compression
+ * happens once per catalog change, so both codecs run at high quality.
+ *
+ * Each encoding has its own strong ETag, as its bytes differ, and the tag is
+ * derived from the version the bytes were built from, so it can never be
+ * newer than the content.
+ */
+@Service
+public class CatalogResponseService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogResponseService.class);
+
+    /**
+     * Content codings in order of preference when the client accepts several equally
+     */
+    public enum ContentCoding {
+        BROTLI("br"),
+        GZIP("gzip"),
+        IDENTITY("identity");
+
+        private final String token;
+
+        ContentCoding(String token) {
+            this.token = token;
+        }
+
+        /**
+         * The {@code Content-Encoding} value, or null for identity
+         */
+        public String getContentEncoding() {
+            return this == IDENTITY ? null : token;
+        }
+    }
+
+    private final AdminService adminService;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final int gzipLevel;
+    private final int brotliQuality;
+    private final boolean brotliAvailable;
+
+    private final Map<CourseView, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CatalogResponseService(AdminService adminService, CatalogVersion catalogVersion, ObjectMapper objectMapper,
+                                  @Value("${institute.catalog.response.gzip-level:9}") int gzipLevel,
+                                  @Value("${institute.catalog.response.brotli-quality:9}") int brotliQuality) {
+        this.adminService = adminService;
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.gzipLevel = gzipLevel;
+        this.brotliQuality = brotliQuality;
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            log.warn("Brotli encoder unavailable, the catalog is precompressed with gzip only", Brotli4jLoader.getUnavailabilityCause());
+        }
+    }
+
+    /**
+     * Returns the catalog in the best encoding the client accepts
+     *
+     * @param view Representation of each course
+     * @param acceptEncoding The request's {@code Accept-Encoding} header, or null
+     * @return Stored bytes and headers; callers must not modify the array
+     */
+    public CatalogResponse getCatalog(CourseView view, String acceptEncoding) {
+        Snapshot snapshot = snapshotFor(view);
+        ContentCoding coding = negotiate(acceptEncoding, snapshot.bodies.keySet());
+        return new CatalogResponse(snapshot.bodies.get(coding), coding.getContentEncoding(),
+                catalogVersion.catalogETag(snapshot.catalogVersion, view.name().toLowerCase(Locale.ROOT) + "-" + coding.token));
+    }
+
+    private Snapshot snapshotFor(CourseView view) {
+        Snapshot current = snapshots.get(view);
+        if (current != null && current.catalogVersion == catalogVersion.current()) {
+            return current;
+        }
+        return rebuildIfStale(view);
+    }
+
+    // One rebuild at a time; requests arriving meanwhile wait for it instead of serializing the catalog themselves
+    private synchronized Snapshot rebuildIfStale(CourseView view) {
+        Snapshot current = snapshots.get(view);
+        if (current == null || current.catalogVersion != catalogVersion.current()) {
+            current = build(view);
+            snapshots.put(view, current);
+        }
+        return current;
+    }
+
+    private Snapshot build(CourseView view) {
+        // Read the version first so a concurrent write forces another rebuild
+        long version = catalogVersion.current();
+        long started = System.nanoTime();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(view == CourseView.SUMMARY
+                    ? adminService.getCourseSummaries() : adminService.getAllCourses());
+            Map<ContentCoding, byte[]> bodies = new EnumMap<>(ContentCoding.class);
+            bodies.put(ContentCoding.IDENTITY, json);
+            bodies.put(ContentCoding.GZIP, gzip(json, gzipLevel));
+            if (brotliAvailable) {
+                bodies.put(ContentCoding.BROTLI, Encoder.compress(json, new Encoder.Parameters().setQuality(brotliQuality)));
+            }
+            log.info("Built {} catalog version {} in {} ms: {} bytes, gzip {}, br {}", view, version,
+                    (System.nanoTime() - started) / 1_000_000, json.length, bodies.get(ContentCoding.GZIP).length,
+                    brotliAvailable ? bodies.get(ContentCoding.BROTLI).length : "-");
+            return new Snapshot(version, bodies);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode the course catalog", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data, int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Picks the content coding with the highest q-value in {@code Accept-Encoding},
+     * preferring brotli, then gzip, then identity on ties. Identity is acceptable
+     * unless excluded explicitly ({@code identity;q=0}, or {@code *;q=0} without it);
+     * if every coding is excluded, identity is returned anyway.
+     *
+     * @param available Codings to choose from, in {@link ContentCoding} order
+     */
+    static ContentCoding negotiate(String acceptEncoding, Iterable<ContentCoding> available) {
+        Map<ContentCoding, Double> q = new EnumMap<>(ContentCoding.class);
+        Double wildcard = null;
+        if (acceptEncoding != null) {
+            for (String entry : acceptEncoding.split(",")) {
+                String[] parts = entry.trim().split(";");
+                String token = parts[0].trim().toLowerCase(Locale.ROOT);
+                double weight = parseQ(parts);
+                if (token.equals("*")) {
+                    wildcard = weight;
+                    continue;
+                }
+                for (ContentCoding coding : ContentCoding.values()) {
+                    if (coding.token.equals(token) || (coding == ContentCoding.GZIP && token.equals("x-gzip"))) {
+                        q.merge(coding, weight, Math::max);
+                    }
+                }
+            }
+        }
+
+        ContentCoding best = null;
+        double bestWeight = 0;
+        for (ContentCoding coding : available) {
+            Double weight = q.get(coding);
+            if (weight == null) {
+                // Unlisted identity is acceptable, but any coding the client names explicitly is preferred to it
+                weight = wildcard != null ? wildcard : (coding == ContentCoding.IDENTITY ? Double.MIN_VALUE : 0.0);
+            }
+            if (weight > bestWeight) {
+                best = coding;
+                bestWeight = weight;
+            }
+        }
+        return best != null ? best : ContentCoding.IDENTITY;
+    }
+
+    private static double parseQ(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Math.max(0, Math.min(1, Double.parseDouble(parameter.substring(2))));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Encoded catalog bytes with their {@code Content-Encoding} and ETag
+     */
+    public static final class CatalogResponse {
+        private final byte[] body;
+        private final String contentEncoding;
+        private final String eTag;
+
+        public CatalogResponse(byte[] body, String contentEncoding, String eTag) {
+            this.body = body;
+            this.contentEncoding = contentEncoding;
+            this.eTag = eTag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    /**
+     * Encoded catalog per content coding and the catalog version it was built from
+     */
+    private static final class Snapshot {
+        private final long catalogVersion;
+        private final Map<ContentCoding, byte[]> bodies;
+
+        Snapshot(long catalogVersion, Map<ContentCoding, byte[]> bodies) {
+            this.catalogVersion = catalogVersion;
+            this.bodies = bodies;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.institute.admin.services;
+
+import com.institute.admin.model.Course;
+
+/**
+ * Published by {@link AdminService} after a course has been written, so that
+ * in-memory read models of the catalog can update incrementally.
+ */
+public class CourseChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long courseId;
+    private final Course course;
+
+    public CourseChangedEvent(Type type, Long courseId, Course course) {
+        this.type = type;
+        this.courseId = courseId;
+        this.course = course;
+    }
+
+    public static CourseChangedEvent created(Course course) {
+        return new CourseChangedEvent(Type.CREATED, course.getId(), course);
+    }
+
+    public static CourseChangedEvent updated(Course course) {
+        return new CourseChangedEvent(Type.UPDATED, course.getId(), course);
+    }
+
+    public static CourseChangedEvent deleted(Long courseId) {
+        return new CourseChangedEvent(Type.DELETED, courseId, null);
+    }
+
+    // Getters
+    public Type getType() {
+        return type;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * The course as saved, or null for deletions
+     */
+    public Course getCourse() {
+        return course;
+    }
+}
@@ -0,0 +1,366 @@
+package com.institute.admin.services;
+
+import com.institute.admin.cache.CatalogVersion;
+import com.institute.admin.cache.CourseCatalogCache;
+import com.institute.admin.dto.CourseImportResult;
+import com.institute.admin.model.Course;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bulk course import from a JSON array or CSV.
+ *
+ * Every row is validated on its own and rejected rows are reported with their
+ * row number instead of failing the whole import. Valid rows are written in
+ * chunks of {@code institute.import.chunk-size}, one transaction per chunk:
+ * each chunk is persisted, flushed (as JDBC batches, thanks to pooled sequence
+ * ids) and cleared from the persistence context, so memory stays bounded by the
+ * chunk size. JSON and CSV input is parsed as it is read rather than loaded up
+ * front; JSON elements are converted one at a time, so a value of the wrong
+ * type rejects its row only.
+ */
+@Service
+public class CourseImportService {
+
+    private static final Map<String, BiConsumer<Course, String>> CSV_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        CSV_COLUMNS.put("name", Course::setName);
+        CSV_COLUMNS.put("description", Course::setDescription);
+        CSV_COLUMNS.put("duration", Course::setDuration);
+        CSV_COLUMNS.put("level", Course::setLevel);
+        CSV_COLUMNS.put("category", Course::setCategory);
+        CSV_COLUMNS.put("price", (course, value) -> course.setPrice(parseNumber("price", value, Double::valueOf)));
+        CSV_COLUMNS.put("prerequisites", Course::setPrerequisites);
+        CSV_COLUMNS.put("features", Course::setFeatures);
+        CSV_COLUMNS.put("instructor", Course::setInstructor);
+        CSV_COLUMNS.put("rating", (course, value) -> course.setRating(parseNumber("rating", value, Double::valueOf)));
+        CSV_COLUMNS.put("studentsenrolled", (course, value) ->
+                course.setStudentsEnrolled(parseNumber("studentsEnrolled", value, Integer::valueOf)));
+    }
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseCatalogCache courseCatalogCache;
+    private final CatalogVersion catalogVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    @Autowired
+    public CourseImportService(EntityManager entityManager, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                               CourseCatalogCache courseCatalogCache, CatalogVersion catalogVersion,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${institute.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be at least 1");
+        }
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.courseCatalogCache = courseCatalogCache;
+        this.catalogVersion = catalogVersion;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports courses given as objects; ids in the input are ignored
+     *
+     * @param courses The courses to create
+     * @return Counts and per-row errors
+     */
+    public CourseImportResult importCourses(List<Course> courses) {
+        Importer importer = new Importer();
+        int row = 0;
+        for (Course course : courses) {
+            row++;
+            if (course == null) {
+                importer.reject(row, "Row is empty");
+            } else {
+                importer.accept(row, course);
+            }
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Imports courses from a JSON array of course objects; ids in the input are ignored.
+     * Each element is converted on its own, and an element that does not convert
+     * to a course (e.g. {@code "price": "abc"}) is reported as a row error.
+     *
+     * @param in JSON text
+     * @return Counts and per-row errors
+     * @throws IllegalArgumentException if the input is not a JSON array
+     * @throws IOException if the input cannot be read or is not well-formed JSON
+     */
+    public CourseImportResult importJson(InputStream in) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of courses");
+            }
+            Importer importer = new Importer();
+            int row = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                row++;
+                JsonNode element = parser.readValueAsTree();
+                Course course;
+                try {
+                    course = objectMapper.treeToValue(element, Course.class);
+                } catch (JsonProcessingException e) {
+                    importer.reject(row, describe(e));
+                    continue;
+                }
+                if (course == null) {
+                    importer.reject(row, "Row is empty");
+                } else {
+                    importer.accept(row, course);
+                }
+            }
+            return importer.finish();
+        }
+    }
+
+    /**
+     * Imports courses from CSV. The first record is a header naming the columns
+     * (case-insensitive): name, description, duration, level, category, price,
+     * prerequisites, features, instructor, rating, studentsEnrolled.
+     *
+     * @param reader CSV text
+     * @return Counts and per-row errors
+     * @throws IllegalArgumentException if the header is missing or names an unknown column
+     * @throws IOException if the input cannot be read
+     */
+    public CourseImportResult importCsv(Reader reader) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<String> header = readCsvRecord(in);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        List<BiConsumer<Course, String>> setters = new ArrayList<>(header.size());
+        for (String column : header) {
+            BiConsumer<Course, String> setter = CSV_COLUMNS.get(column.trim().toLowerCase(Locale.ROOT));
+            if (setter == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + column);
+            }
+            setters.add(setter);
+        }
+
+        Importer importer = new Importer();
+        int row = 0;
+        List<String> record;
+        while ((record = readCsvRecord(in)) != null) {
+            row++;
+            if (record.size() != setters.size()) {
+                importer.reject(row, "Expected " + setters.size() + " columns but found " + record.size());
+                continue;
+            }
+            Course course = new Course();
+            try {
+                for (int i = 0; i < setters.size(); i++) {
+                    String value = record.get(i).trim();
+                    setters.get(i).accept(course, value.isEmpty() ? null : value);
+                }
+            } catch (IllegalArgumentException e) {
+                importer.reject(row, e.getMessage());
+                continue;
+            }
+            importer.accept(row, course);
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Checks one row; the name rule is the one single course creation applies
+     *
+     * @return The problem, or null if the row is valid
+     */
+    static String validate(Course course) {
+        if (course.getName() == null || course.getName().trim().isEmpty()) {
+            return "Course name cannot be null or empty";
+        }
+        if (course.getPrice() != null && course.getPrice() < 0) {
+            return "Price cannot be negative";
+        }
+        if (course.getRating() != null && (course.getRating() < 0 || course.getRating() > 5)) {
+            return "Rating must be between 0 and 5";
+        }
+        if (course.getStudentsEnrolled() != null && course.getStudentsEnrolled() < 0) {
+            return "Students enrolled cannot be negative";
+        }
+        return null;
+    }
+
+    /**
+     * Reads one RFC 4180 record: comma-separated, optionally double-quoted
+     * fields, with doubled quotes and line breaks allowed inside quotes.
+     * Blank lines are skipped.
+     *
+     * @return The fields, or null at end of input
+     */
+    static List<String> readCsvRecord(BufferedReader in) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAny = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        field.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                sawAny = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                sawAny = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') {
+                        in.reset();
+                    }
+                }
+                if (sawAny) {
+                    break;
+                }
+            } else {
+                field.append((char) c);
+                sawAny = true;
+            }
+        }
+        if (!sawAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Names the offending field instead of echoing Jackson's message
+    private static String describe(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            if (e instanceof InvalidFormatException invalid) {
+                return "Invalid " + field + ": " + invalid.getValue();
+            }
+            return "Invalid " + field;
+        }
+        return "Row is not a course object";
+    }
+
+    private static <N> N parseNumber(String column, String value, Function<String, N> parser) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    /**
+     * Collects valid rows into chunks and writes each full chunk
+     */
+    private final class Importer {
+        private final List<Course> chunk = new ArrayList<>(chunkSize);
+        private final List<Integer> chunkRows = new ArrayList<>(chunkSize);
+        private final List<CourseImportResult.RowError> errors = new ArrayList<>();
+        private int received;
+        private int imported;
+
+        void accept(int row, Course course) {
+            received++;
+            String problem = validate(course);
+            if (problem != null) {
+                errors.add(new CourseImportResult.RowError(row, problem));
+                return;
+            }
+            course.setId(null);
+            chunk.add(course);
+            chunkRows.add(row);
+            if (chunk.size() >= chunkSize) {
+                writeChunk();
+            }
+        }
+
+        void reject(int row, String message) {
+            received++;
+            errors.add(new CourseImportResult.RowError(row, message));
+        }
+
+        CourseImportResult finish() {
+            writeChunk();
+            errors.sort(Comparator.comparingInt(CourseImportResult.RowError::getRow));
+            return new CourseImportResult(received, imported, errors);
+        }
+
+        private void writeChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Course course : chunk) {
+                        entityManager.persist(course);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                imported += chunk.size();
+                // Same order as single writes: drop cached copies, update read models, then bump the version
+                courseCatalogCache.invalidateAll();
+                for (Course course : chunk) {
+                    eventPublisher.publishEvent(CourseChangedEvent.created(course));
+                }
+                catalogVersion.increment();
+            } catch (RuntimeException e) {
+                String message = "Could not be saved: " + e.getMessage();
+                for (Integer row : chunkRows) {
+                    errors.add(new CourseImportResult.RowError(row, message));
+                }
+            } finally {
+                chunk.clear();
+                chunkRows.clear();
+            }
+        }
+    }
+}
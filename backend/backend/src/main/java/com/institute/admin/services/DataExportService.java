@@ -0,0 +1,224 @@
+package com.institute.admin.services;
+
+import com.institute.admin.model.Message;
+import com.institute.admin.model.Student;
+import com.institute.admin.repository.MessageRepository;
+import com.institute.admin.repository.StudentRepository;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to a response as NDJSON or CSV.
+ *
+ * Rows come from a forward-only repository stream and are detached as soon as
+ * they are written, so neither the result list nor the persistence context
+ * grows with the table. The first row is flushed immediately so clients see
+ * output at once; after that the stream is flushed every {@link #FLUSH_INTERVAL} rows.
+ */
+@Service
+public class DataExportService {
+
+    static final int FLUSH_INTERVAL = 1000;
+
+    /**
+     * Request attribute marking an export, which gets the export async timeout
+     * ({@code institute.export.timeout}) instead of the container default
+     */
+    public static final String EXPORT_REQUEST_ATTRIBUTE = DataExportService.class.getName() + ".EXPORT";
+
+    private static final String[] MESSAGE_COLUMNS = {"id", "senderName", "email", "content"};
+    private static final String[] STUDENT_COLUMNS = {"id", "name", "email"};
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Parses the {@code format} request parameter
+         *
+         * @throws IllegalArgumentException for unknown formats
+         */
+        public static Format fromParameter(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private final MessageRepository messageRepository;
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter rowWriter;
+
+    @Autowired
+    public DataExportService(MessageRepository messageRepository, StudentRepository studentRepository,
+                             EntityManager entityManager, ObjectMapper objectMapper) {
+        this.messageRepository = messageRepository;
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        // Flushing is controlled by the export loop, not by every value written
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every message to {@code out}
+     *
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportMessages(OutputStream out, Format format) throws IOException {
+        try (Stream<Message> rows = messageRepository.streamAllByOrderByIdAsc()) {
+            return export(rows.iterator(), out, format, MESSAGE_COLUMNS,
+                    m -> new Object[]{m.getId(), m.getSenderName(), m.getEmail(), m.getContent()});
+        }
+    }
+
+    /**
+     * Writes every student to {@code out}
+     *
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportStudents(OutputStream out, Format format) throws IOException {
+        try (Stream<Student> rows = studentRepository.streamAllByOrderByIdAsc()) {
+            return export(rows.iterator(), out, format, STUDENT_COLUMNS,
+                    s -> new Object[]{s.getId(), s.getName(), s.getEmail()});
+        }
+    }
+
+    private <T> long export(Iterator<T> rows, OutputStream out, Format format, String[] header,
+                            Function<T, Object[]> columns) throws IOException {
+        RowWriter<T> writer = format == Format.CSV
+                ? new CsvRowWriter<>(out, header, columns)
+                : new NdjsonRowWriter<>(out, rowWriter);
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            writer.write(row);
+            entityManager.detach(row);
+            if (++count == 1 || count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Quotes a CSV field when it contains a delimiter, quote or line break
+     */
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        boolean needsQuotes = false;
+        for (int i = 0; i < text.length() && !needsQuotes; i++) {
+            char c = text.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuotes ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter<T> implements RowWriter<T> {
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        NdjsonRowWriter(OutputStream out, ObjectWriter writer) throws IOException {
+            this.writer = writer;
+            this.generator = writer.createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // One value per line; no separator other than the newline we write
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter<T> implements RowWriter<T> {
+        private final Writer writer;
+        private final Function<T, Object[]> columns;
+
+        CsvRowWriter(OutputStream out, String[] header, Function<T, Object[]> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            writeLine(header);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            writeLine(columns.apply(row));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsv(values[i]));
+            }
+            writer.write("\r\n");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.institute.admin.services;
+
+import com.institute.admin.cache.CatalogVersion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serves the institute information document from a pre-serialized snapshot.
+ *
+ * The document is mostly static; only the course count depends on the
+ * database, and it is read with a count query. The snapshot is rebuilt when the
+ * catalog version moves and on a fixed schedule (to pick up changes made
+ * outside this process), so a request normally just returns the cached bytes.
+ */
+@Service
+public class InstituteInfoService {
+
+    private final AdminService adminService;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public InstituteInfoService(AdminService adminService, CatalogVersion catalogVersion, ObjectMapper objectMapper) {
+        this.adminService = adminService;
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the institute information as UTF-8 JSON
+     *
+     * @return The serialized document; callers must not modify the array
+     */
+    public byte[] getInstituteInfoJson() {
+        Snapshot current = snapshot;
+        if (current == null || current.catalogVersion != catalogVersion.current()) {
+            current = rebuildIfStale();
+        }
+        return current.json;
+    }
+
+    /**
+     * Rebuilds the snapshot unconditionally, to pick up changes made outside this process
+     */
+    @Scheduled(fixedDelayString = "${institute.info.refresh-interval:5m}", initialDelayString = "${institute.info.refresh-interval:5m}")
+    public synchronized void refresh() {
+        snapshot = build();
+    }
+
+    private synchronized Snapshot rebuildIfStale() {
+        Snapshot current = snapshot;
+        if (current == null || current.catalogVersion != catalogVersion.current()) {
+            current = build();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot build() {
+        // Read the version first so a concurrent write forces another rebuild
+        long version = catalogVersion.current();
+        long courseCount = adminService.getCourseCount();
+        try {
+            return new Snapshot(version, objectMapper.writeValueAsBytes(buildInstituteInfo(courseCount)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize institute information", e);
+        }
+    }
+
+    private static Map<String, Object> buildInstituteInfo(long courseCount) {
+        Map<String, Object> instituteInfo = new LinkedHashMap<>();
+
+        // Basic institute information
+        instituteInfo.put("name", "Excellence Institute");
+        instituteInfo.put("tagline", "Empowering Minds, Shaping Futures");
+        instituteInfo.put("description", "A premier educational institution dedicated to providing quality education and fostering innovation.");
+        instituteInfo.put("mission", "To provide world-class education and create leaders of tomorrow through innovative teaching methods and comprehensive skill development.");
+        instituteInfo.put("vision", "To be the leading educational institution that transforms lives and contributes to society's progress.");
+
+        // Contact information
+        Map<String, Object> contactInfo = new LinkedHashMap<>();
+        contactInfo.put("email", "info@excellenceinstitute.com");
+        contactInfo.put("phone", "+1 (555) 123-4567");
+        contactInfo.put("address", "123 Education Street, Learning City, LC 12345");
+        contactInfo.put("officeHours", "Monday - Friday: 9:00 AM - 6:00 PM");
+        instituteInfo.put("contactInfo", contactInfo);
+
+        // Statistics
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("totalStudents", 1500);
+        statistics.put("totalCourses", courseCount);
+        statistics.put("yearsOfExperience", 15);
+        statistics.put("successRate", 95);
+        instituteInfo.put("statistics", statistics);
+
+        return instituteInfo;
+    }
+
+    /**
+     * Serialized document and the catalog state it was built from
+     */
+    private static final class Snapshot {
+        private final long catalogVersion;
+        private final byte[] json;
+
+        Snapshot(long catalogVersion, byte[] json) {
+            this.catalogVersion = catalogVersion;
+            this.json = json;
+        }
+    }
+}
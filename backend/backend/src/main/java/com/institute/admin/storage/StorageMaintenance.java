@@ -0,0 +1,138 @@
+package com.institute.admin.storage;
+
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Housekeeping and startup measurements for the file-backed H2 database of the
+ * {@code persistent} profile.
+ *
+ * Once the context has started it records how long startup took and times a
+ * few queries against the cold page cache (row counts, a primary key lookup
+ * and a keyset page from the middle of each table), so warm-restart cost can
+ * be tracked as data grows. This runs on {@link ApplicationStartedEvent},
+ * before the runners and the {@code ApplicationReadyEvent} listeners that
+ * rebuild the search and facet indexes by reading every course. On the configured off-peak schedule it compacts
+ * the database file online, which rewrites sparse chunks and returns free
+ * space left behind by deletes and updates.
+ */
+@Component
+@Profile("persistent")
+public class StorageMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageMaintenance.class);
+    private static final String[] TABLES = {"course", "student", "message"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final File databaseFile;
+    private final Duration maxCompactionTime;
+
+    private volatile Map<String, Object> startup = Map.of();
+    private volatile Map<String, Object> lastCompaction = Map.of();
+
+    @Autowired
+    public StorageMaintenance(JdbcTemplate jdbcTemplate,
+                              @Value("${institute.storage.path:./data/institute}") String storagePath,
+                              @Value("${institute.storage.compaction.max-time:30s}") Duration maxCompactionTime) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseFile = new File(storagePath + ".mv.db");
+        this.maxCompactionTime = maxCompactionTime;
+    }
+
+    /**
+     * Records startup time and cold-cache query latencies
+     */
+    @EventListener
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startupMillis", event.getTimeTaken() == null ? null : event.getTimeTaken().toMillis());
+        report.put("fileBytes", databaseFile.length());
+        Map<String, Object> tables = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            tables.put(table, measureColdQueries(table));
+        }
+        report.put("coldQueries", tables);
+        startup = report;
+        log.info("Persistent storage ready: {}", report);
+    }
+
+    private Map<String, Object> measureColdQueries(String table) {
+        Map<String, Object> timings = new LinkedHashMap<>();
+        Long rows = timed(timings, "countMillis", () ->
+                jdbcTemplate.queryForObject("select count(*) from " + table, Long.class));
+        timings.put("rows", rows);
+        if (rows != null && rows > 0) {
+            // Ids are generated from 1, so this lands mid-table without another query touching the index first
+            long middle = rows / 2 + 1;
+            List<Map<String, Object>> found = timed(timings, "lookupByIdMillis", () ->
+                    jdbcTemplate.queryForList("select * from " + table + " where id = ?", middle));
+            timings.put("lookupFound", !found.isEmpty());
+            timed(timings, "pageOf50Millis", () ->
+                    jdbcTemplate.queryForList("select * from " + table + " where id > ? order by id fetch first 50 rows only", middle));
+        }
+        return timings;
+    }
+
+    private static <T> T timed(Map<String, Object> timings, String name, Supplier<T> query) {
+        long started = System.nanoTime();
+        T result = query.get();
+        timings.put(name, Math.round((System.nanoTime() - started) / 10_000.0) / 100.0);
+        return result;
+    }
+
+    /**
+     * Compacts the database file, for at most {@code institute.storage.compaction.max-time}
+     */
+    @Scheduled(cron = "${institute.storage.compaction.cron:0 30 3 * * *}")
+    public void compact() {
+        long before = databaseFile.length();
+        long started = System.nanoTime();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            // The connection is proxied for statement metrics; compaction needs the embedded engine underneath
+            SessionLocal session = (SessionLocal) connection.unwrap(JdbcConnection.class).getSession();
+            session.getDatabase().getStore()
+                    .compactFile((int) Math.min(Integer.MAX_VALUE, maxCompactionTime.toMillis()));
+            return null;
+        });
+        long after = databaseFile.length();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("at", Instant.now().toString());
+        report.put("millis", (System.nanoTime() - started) / 1_000_000);
+        report.put("bytesBefore", before);
+        report.put("bytesAfter", after);
+        lastCompaction = report;
+        log.info("Compacted {}: {}", databaseFile, report);
+    }
+
+    /**
+     * Database file, startup measurements and the last compaction
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("file", databaseFile.getAbsolutePath());
+        stats.put("fileBytes", databaseFile.length());
+        stats.put("startup", startup);
+        stats.put("lastCompaction", lastCompaction);
+        return stats;
+    }
+}
@@ -0,0 +1,50 @@
+package com.institute.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ * responses, chosen by the {@code Accept} header.
+ *
+ * The binary converters use copies of the application's ObjectMapper with only
+ * the parser/generator factory swapped, so modules, naming and inclusion
+ * settings are shared and a binary document decodes to exactly the JSON
+ * shape. Spring's own defaults for these formats use an unconfigured mapper
+ * and are replaced. JSON stays first, so clients that accept anything keep
+ * getting JSON.
+ */
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BinaryFormatsConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        int json = 0;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                json = i + 1;
+            }
+        }
+        converters.add(json, new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(json + 1, new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+    }
+}
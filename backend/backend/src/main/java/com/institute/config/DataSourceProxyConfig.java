@@ -0,0 +1,34 @@
+package com.institute.config;
+
+import com.institute.admin.monitoring.SqlStatementMetrics;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceProxyConfig {
+
+    /**
+     * Wraps the application DataSource so every statement is timed by {@link SqlStatementMetrics}
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlStatementMetrics> sqlStatementMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(sqlStatementMetrics.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
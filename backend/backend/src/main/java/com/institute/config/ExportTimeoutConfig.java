@@ -0,0 +1,49 @@
+package com.institute.config;
+
+import com.institute.admin.services.DataExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Async timeout for table exports.
+ *
+ * Exports are written by a {@code StreamingResponseBody} on an async request,
+ * which the container would otherwise end after its default async timeout
+ * (30 s on Tomcat) and leave the client with a truncated file. Requests marked
+ * with {@link DataExportService#EXPORT_REQUEST_ATTRIBUTE} get
+ * {@code institute.export.timeout} instead; other async requests keep the default.
+ */
+@Configuration
+public class ExportTimeoutConfig implements WebMvcConfigurer {
+
+    private final Duration exportTimeout;
+
+    @Autowired
+    public ExportTimeoutConfig(@Value("${institute.export.timeout:1h}") Duration exportTimeout) {
+        this.exportTimeout = exportTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // Runs before the async request starts, while its timeout can still be changed
+                if (request instanceof AsyncWebRequest asyncRequest
+                        && request.getAttribute(DataExportService.EXPORT_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+                    asyncRequest.setTimeout(exportTimeout.toMillis());
+                }
+            }
+        });
+    }
+}
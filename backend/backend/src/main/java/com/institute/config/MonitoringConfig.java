@@ -0,0 +1,36 @@
+package com.institute.config;
+
+import com.institute.admin.monitoring.ApiLatencyAggregator;
+import com.institute.admin.monitoring.EntityLoadFilter;
+import com.institute.admin.monitoring.EntityLoadMetrics;
+import com.institute.admin.monitoring.ServerTimingFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MonitoringConfig {
+
+    /**
+     * Server-side timing for the public API, the counterpart of the website's API performance reports
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ApiLatencyAggregator aggregator) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter(aggregator));
+        registration.addUrlPatterns("/api/public/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Per-request entity load counts for the public and admin APIs
+     */
+    @Bean
+    public FilterRegistrationBean<EntityLoadFilter> entityLoadFilter(EntityLoadMetrics metrics) {
+        FilterRegistrationBean<EntityLoadFilter> registration = new FilterRegistrationBean<>(new EntityLoadFilter(metrics));
+        registration.addUrlPatterns("/api/*", "/admin/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
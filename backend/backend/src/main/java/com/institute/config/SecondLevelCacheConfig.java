@@ -0,0 +1,85 @@
+package com.institute.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on a local Caffeine JCache provider.
+ *
+ * Every region is created here with its own size and TTL bounds, and Hibernate
+ * is told to fail rather than silently create an unbounded cache for a region
+ * that is not listed. Courses are always cached (read-write, see
+ * {@link com.institute.admin.model.Course}); students only when
+ * {@code institute.cache.second-level.students.enabled} is set, which maps
+ * the entity to its region through {@code hibernate.classcache}. The update
+ * timestamps region is neither bounded nor expired, as a lost timestamp could
+ * let the query cache serve results older than a committed write.
+ */
+@Configuration
+@ConditionalOnProperty(name = "institute.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String COURSE_REGION = "course";
+    public static final String STUDENT_REGION = "student";
+
+    /**
+     * Cache manager holding the Hibernate regions; a new one per application context
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${institute.cache.second-level.maximum-size:10000}") long maximumSize,
+                                              @Value("${institute.cache.second-level.expire-after-write:10m}") Duration expireAfterWrite,
+                                              @Value("${institute.cache.second-level.query.maximum-size:1000}") long queryMaximumSize,
+                                              @Value("${institute.cache.second-level.students.enabled:false}") boolean cacheStudents) {
+        // A unique URI keeps contexts in the same JVM (tests) from sharing regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("institute-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(COURSE_REGION, region(maximumSize, expireAfterWrite));
+        if (cacheStudents) {
+            cacheManager.createCache(STUDENT_REGION, region(maximumSize, expireAfterWrite));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryMaximumSize, expireAfterWrite));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    /**
+     * Turns on the entity and query caches and hands Hibernate the cache manager
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager,
+                                                                    @Value("${institute.cache.second-level.students.enabled:false}") boolean cacheStudents) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            if (cacheStudents) {
+                properties.put(AvailableSettings.CLASS_CACHE_PREFIX + ".com.institute.admin.model.Student", "read-write," + STUDENT_REGION);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,310 @@
+package com.institute.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seeds large volumes of students, messages and courses for load tests and
+ * benchmarks; active with the {@code synthetic} profile (see
+ * application-synthetic.properties).
+ *
+ * Rows are written with plain JDBC batch inserts, in chunks of
+ * {@code chunk-size} rows that run in parallel on {@code workers} threads,
+ * one transaction per chunk. Every chunk owns a fixed id range and its own
+ * random generator derived from the seed, the table and the chunk number, so
+ * the same seed produces exactly the same rows however the chunks are
+ * scheduled. Afterwards the id sequences are moved past the generated ids so
+ * that rows saved through JPA do not collide with them.
+ *
+ * Runs before {@link DataInitializer}, which then sees non-empty tables and
+ * adds nothing. A table that already has rows is left alone.
+ */
+@Component
+@Profile("synthetic")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Must match the allocationSize of the entity sequence generators
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    private static final int JDBC_BATCH_SIZE = 1000;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carol", "David", "Emma", "Frank", "Grace", "Henry",
+            "Isla", "Jack", "Kavya", "Liam", "Mia", "Noah", "Olivia", "Priya", "Quinn", "Ravi", "Sofia", "Tomas"};
+    private static final String[] LAST_NAMES = {"Johnson", "Smith", "Davis", "Wilson", "Brown", "Miller", "Lee",
+            "Taylor", "Garcia", "Nguyen", "Patel", "Kim", "Martin", "Lopez", "Clark", "Singh", "Walker", "Young"};
+    private static final String[] DOMAINS = {"email.com", "example.org", "mail.net", "school.edu", "inbox.io"};
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced"};
+    private static final String[] CATEGORIES = {"Programming", "Web Development", "Data Science", "Design",
+            "Cloud", "Business", "Mobile", "Security", "Languages", "Marketing"};
+    private static final String[] TOPICS = {"Java", "Spring Boot", "Angular", "React", "Python", "SQL", "Kubernetes",
+            "UX", "Machine Learning", "Networking", "Excel", "Public Speaking"};
+    private static final String[] WORDS = ("course schedule enroll question payment certificate access login "
+            + "materials module assignment deadline instructor feedback discount group weekend evening online "
+            + "project exam support refund recording session prerequisite level beginner advanced thanks").split(" ");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long seed;
+    private final int students;
+    private final int messages;
+    private final int courses;
+    private final int workers;
+    private final int chunkSize;
+    private final int messageLengthMedian;
+    private final double messageLengthSigma;
+    private final double[] levelWeights;
+    private final double[] categoryWeights;
+    private final double minPrice;
+    private final double maxPrice;
+
+    @Autowired
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${institute.synthetic.seed:42}") long seed,
+                                  @Value("${institute.synthetic.students:100000}") int students,
+                                  @Value("${institute.synthetic.messages:100000}") int messages,
+                                  @Value("${institute.synthetic.courses:10000}") int courses,
+                                  @Value("${institute.synthetic.workers:4}") int workers,
+                                  @Value("${institute.synthetic.chunk-size:10000}") int chunkSize,
+                                  @Value("${institute.synthetic.message.length-median:300}") int messageLengthMedian,
+                                  @Value("${institute.synthetic.message.length-sigma:0.6}") double messageLengthSigma,
+                                  @Value("${institute.synthetic.course.level-weights:50,35,15}") double[] levelWeights,
+                                  @Value("${institute.synthetic.course.category-skew:1.0}") double categorySkew,
+                                  @Value("${institute.synthetic.course.min-price:0}") double minPrice,
+                                  @Value("${institute.synthetic.course.max-price:500}") double maxPrice) {
+        if (students < 0 || messages < 0 || courses < 0) {
+            throw new IllegalArgumentException("Synthetic row counts must not be negative");
+        }
+        if (workers < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Synthetic workers and chunk size must be at least 1");
+        }
+        if (levelWeights.length != LEVELS.length) {
+            throw new IllegalArgumentException("Expected " + LEVELS.length + " course level weights");
+        }
+        if (minPrice > maxPrice) {
+            throw new IllegalArgumentException("Minimum course price is above the maximum");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.seed = seed;
+        this.students = students;
+        this.messages = messages;
+        this.courses = courses;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.messageLengthMedian = Math.max(1, messageLengthMedian);
+        this.messageLengthSigma = Math.max(0, messageLengthSigma);
+        this.levelWeights = cumulative(levelWeights);
+        this.categoryWeights = cumulative(zipfWeights(CATEGORIES.length, categorySkew));
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        generate();
+    }
+
+    /**
+     * Fills every empty table with its configured number of rows
+     *
+     * @return Rows inserted per table
+     */
+    public Map<String, Integer> generate() throws InterruptedException {
+        Map<String, Integer> inserted = new LinkedHashMap<>();
+        inserted.put("student", fill(new Table("student", "student_seq",
+                "insert into student (id, name, email) values (?, ?, ?)", this::studentRow), students));
+        inserted.put("message", fill(new Table("message", "message_seq",
+                "insert into message (id, sender_name, email, content) values (?, ?, ?, ?)", this::messageRow), messages));
+        inserted.put("course", fill(new Table("course", "course_seq",
+                "insert into course (id, name, description, duration, level, category, price, prerequisites, features, "
+                        + "instructor, rating, students_enrolled) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                this::courseRow), courses));
+        // Rows written over plain JDBC are invisible to Hibernate, so nothing cached before them may be served
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictAllRegions();
+        return inserted;
+    }
+
+    private int fill(Table table, int rows) throws InterruptedException {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from " + table.name, Long.class);
+        if (rows == 0 || existing == null || existing > 0) {
+            log.info("Skipping synthetic {} rows: {} already present", table.name, existing);
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        int chunks = (rows + chunkSize - 1) / chunkSize;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, chunks));
+        try {
+            List<Future<?>> results = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int first = chunk * chunkSize;
+                int count = Math.min(chunkSize, rows - first);
+                int chunkNumber = chunk;
+                results.add(executor.submit(() -> insertChunk(table, chunkNumber, first, count)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic " + table.name + " generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Ids 1..rows are taken; the pooled optimizer hands out (value - allocation, value]
+        jdbcTemplate.execute("alter sequence " + table.sequence + " restart with " + (rows + SEQUENCE_ALLOCATION_SIZE + 1));
+        log.info("Generated {} synthetic {} rows in {} ms", rows, table.name, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private void insertChunk(Table table, int chunk, int first, int count) {
+        SplittableRandom random = new SplittableRandom(mix(seed, table.name.hashCode(), chunk));
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> batch = new ArrayList<>(Math.min(count, JDBC_BATCH_SIZE));
+            for (int i = 0; i < count; i++) {
+                batch.add(table.rowFactory.row(first + i + 1L, random));
+                if (batch.size() == JDBC_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(table.insert, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(table.insert, batch);
+            }
+        });
+    }
+
+    // ---------------- Row Generators ----------------
+
+    private Object[] studentRow(long id, SplittableRandom random) {
+        String first = pick(FIRST_NAMES, random);
+        String last = pick(LAST_NAMES, random);
+        return new Object[] {id, first + " " + last, email(first, last, id, random)};
+    }
+
+    private Object[] messageRow(long id, SplittableRandom random) {
+        String first = pick(FIRST_NAMES, random);
+        String last = pick(LAST_NAMES, random);
+        // Log-normal lengths: most messages are short, a few run up to the column limit
+        int length = (int) Math.round(messageLengthMedian * Math.exp(messageLengthSigma * gaussian(random)));
+        return new Object[] {id, first + " " + last, email(first, last, id, random), text(Math.max(10, Math.min(2000, length)), random)};
+    }
+
+    private Object[] courseRow(long id, SplittableRandom random) {
+        String topic = pick(TOPICS, random);
+        String level = LEVELS[weighted(levelWeights, random)];
+        String category = CATEGORIES[weighted(categoryWeights, random)];
+        double price = Math.round((minPrice + random.nextDouble() * (maxPrice - minPrice)) * 100) / 100.0;
+        double rating = Math.round(Math.min(5.0, Math.max(1.0, 4.2 + 0.5 * gaussian(random))) * 10) / 10.0;
+        return new Object[] {id, level + " " + topic + " " + id, text(80 + random.nextInt(160), random),
+                (2 + random.nextInt(23)) + " weeks", level, category, price,
+                random.nextInt(3) == 0 ? "None" : "Basic " + pick(TOPICS, random),
+                "Projects, Certificate" + (random.nextBoolean() ? ", Mentoring" : ""),
+                pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random), rating,
+                // Enrollment is heavy-tailed: a few courses hold most of the students
+                (int) Math.min(100_000, Math.round(Math.exp(3 + 1.5 * Math.abs(gaussian(random)))))};
+    }
+
+    private static String email(String first, String last, long id, SplittableRandom random) {
+        return (first + "." + last + id).toLowerCase() + "@" + pick(DOMAINS, random);
+    }
+
+    private static String text(int length, SplittableRandom random) {
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(pick(WORDS, random));
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static int weighted(double[] cumulativeWeights, SplittableRandom random) {
+        double r = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    /**
+     * Zipf weights: rank i is drawn with probability proportional to 1 / (i + 1)^skew; a skew of 0 is uniform
+     */
+    private static double[] zipfWeights(int size, double skew) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, skew);
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        return cumulative;
+    }
+
+    private static long mix(long seed, int table, int chunk) {
+        long h = seed * 0x9E3779B97F4A7C15L + table;
+        h = (h ^ (h >>> 31)) * 0xBF58476D1CE4E5B9L + chunk;
+        return h ^ (h >>> 29);
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(long id, SplittableRandom random);
+    }
+
+    private record Table(String name, String sequence, String insert, RowFactory rowFactory) {
+    }
+}
@@ -0,0 +1,52 @@
+-- Schema for the persistent profile; Hibernate validates against it (ddl-auto=validate).
+-- Keep in step with the entities: sequences allocate 50 ids per round trip.
+create sequence if not exists course_seq start with 1 increment by 50;
+create sequence if not exists error_rollup_seq start with 1 increment by 50;
+create sequence if not exists message_seq start with 1 increment by 50;
+create sequence if not exists student_seq start with 1 increment by 50;
+
+create table if not exists course (
+    id bigint not null,
+    name varchar(255),
+    description varchar(255),
+    duration varchar(255),
+    level varchar(255),
+    category varchar(255),
+    price float(53),
+    prerequisites varchar(255),
+    features varchar(255),
+    instructor varchar(255),
+    rating float(53),
+    students_enrolled integer,
+    primary key (id)
+);
+
+create table if not exists student (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table if not exists message (
+    id bigint not null,
+    sender_name varchar(255),
+    email varchar(255),
+    content varchar(2000),
+    primary key (id)
+);
+
+create table if not exists error_rollup (
+    id bigint not null,
+    fingerprint varchar(16) not null,
+    minute_start timestamp(6) with time zone not null,
+    occurrences bigint not null,
+    message varchar(1000),
+    stack varchar(4000),
+    url varchar(1000),
+    severity varchar(255),
+    version varchar(255),
+    last_seen timestamp(6) with time zone,
+    primary key (id),
+    unique (fingerprint, minute_start)
+);
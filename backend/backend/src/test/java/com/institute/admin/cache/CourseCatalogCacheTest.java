@@ -0,0 +1,155 @@
+package com.institute.admin.cache;
+
+import com.institute.admin.model.Course;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseCatalogCacheTest {
+
+    private CourseCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CourseCatalogCache(100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testConcurrentMissesRunOneLoader() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<Course>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.getCourseById(1L, id -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return Optional.of(course(id));
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Optional<Course>> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isPresent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testMissingCoursesAreCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getCourseById(9L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+        cache.getCourseById(9L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testBulkLoadFetchesOnlyMisses() {
+        cache.getCourseById(1L, id -> Optional.of(course(id)));
+        List<Set<Long>> requested = new ArrayList<>();
+
+        Map<Long, Course> result = cache.getCourses(List.of(1L, 2L, 3L), missing -> {
+            requested.add(missing);
+            return List.of(course(2L));
+        });
+
+        assertEquals(List.of(Set.of(2L, 3L)), requested);
+        assertEquals(Set.of(1L, 2L), result.keySet());
+    }
+
+    @Test
+    void testInvalidateDropsCourseAndCatalog() {
+        AtomicInteger catalogLoads = new AtomicInteger();
+        cache.getAllCourses(() -> { catalogLoads.incrementAndGet(); return List.of(course(1L)); });
+        cache.getCourseById(1L, id -> Optional.of(course(id)));
+        cache.getCourseById(2L, id -> Optional.of(course(id)));
+
+        cache.invalidate(1L);
+
+        cache.getAllCourses(() -> { catalogLoads.incrementAndGet(); return List.of(course(1L)); });
+        assertEquals(2, catalogLoads.get());
+        assertTrue(cache.getCourseById(1L, id -> Optional.empty()).isEmpty());
+        assertTrue(cache.getCourseById(2L, id -> Optional.empty()).isPresent());
+    }
+
+    @Test
+    void testInvalidateDuringCatalogLoadDropsTheLoadedList() throws Exception {
+        AtomicInteger catalogLoads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // The load read the rows before the write committed
+            Future<List<Course>> staleLoad = executor.submit(() -> cache.getAllCourses(() -> {
+                catalogLoads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return List.of(course(1L));
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<?> invalidation = executor.submit(() -> cache.invalidate(1L));
+            Thread.sleep(100);
+            release.countDown();
+            staleLoad.get(5, TimeUnit.SECONDS);
+            invalidation.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Course> courses = cache.getAllCourses(() -> {
+            catalogLoads.incrementAndGet();
+            return List.of(course(1L), course(2L));
+        });
+        assertEquals(2, catalogLoads.get());
+        assertEquals(2, courses.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStats() {
+        cache.getCourseById(1L, id -> Optional.of(course(id)));
+        cache.getCourseById(1L, id -> Optional.of(course(id)));
+
+        Map<String, Object> byId = (Map<String, Object>) cache.getStats().get("coursesById");
+
+        assertEquals(1L, byId.get("hitCount"));
+        assertEquals(1L, byId.get("missCount"));
+        assertEquals(1L, byId.get("loadSuccessCount"));
+    }
+
+    private static Course course(Long id) {
+        Course course = new Course("Course " + id, "Description");
+        course.setId(id);
+        return course;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,30 +1,51 @@
 package com.institute.admin.controller;
 
+import com.institute.admin.dto.CourseImportResult;
+import com.institute.admin.dto.CursorPage;
+import com.institute.admin.dto.FieldSelection;
+import com.institute.admin.ingest.MessageIngestionQueue;
 import com.institute.admin.model.Course;
 import com.institute.admin.model.Student;
 import com.institute.admin.model.Message;
+import com.institute.admin.ratelimit.ContactRateLimiter;
 import com.institute.admin.services.AdminService;
+import com.institute.admin.services.CourseImportService;
+import com.institute.admin.services.DataExportService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(AdminController.class)
+// A short default async timeout, as a container would impose, which exports must not be held to
+@WebMvcTest(value = AdminController.class, properties = {"spring.mvc.async.request-timeout=100ms", "institute.export.timeout=10s"})
 class AdminControllerIntegrationTest {
 
     @Autowired
@@ -33,6 +54,18 @@ class AdminControllerIntegrationTest {
     @MockBean
     private AdminService adminService;
 
+    @MockBean
+    private DataExportService dataExportService;
+
+    @MockBean
+    private CourseImportService courseImportService;
+
+    @MockBean
+    private MessageIngestionQueue messageIngestionQueue;
+
+    @MockBean
+    private ContactRateLimiter contactRateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,6 +102,61 @@ class AdminControllerIntegrationTest {
         verify(adminService).getAllCourses();
     }
 
+    @Test
+    void testGetCoursePage() throws Exception {
+        String next = CursorPage.encodeCursor(1L);
+        when(adminService.getCoursePage(null, 1))
+                .thenReturn(new CursorPage<>(Arrays.asList(testCourse), next, true));
+
+        mockMvc.perform(get("/admin/courses").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(next))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        verify(adminService).getCoursePage(null, 1);
+        verify(adminService, never()).getAllCourses();
+    }
+
+    @Test
+    void testGetCoursePage_InvalidCursor() throws Exception {
+        when(adminService.getCoursePage(eq("bogus"), any())).thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(get("/admin/courses").param("after", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetCoursesWithSparseFields() throws Exception {
+        when(adminService.getSparseRows(eq(Course.class), argThat(fields("id", "name", "price"))))
+                .thenReturn(List.of(Map.of("id", 1L, "name", "Java Programming", "price", 99.0)));
+
+        mockMvc.perform(get("/admin/courses").param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Java Programming"))
+                .andExpect(jsonPath("$[0].price").value(99.0))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(adminService, never()).getAllCourses();
+    }
+
+    @Test
+    void testGetCoursesWithFieldsAndView() throws Exception {
+        mockMvc.perform(get("/admin/courses").param("fields", "name").param("view", "summary"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(adminService);
+    }
+
+    @Test
+    void testGetCoursesWithUnknownField() throws Exception {
+        when(adminService.getSparseRows(eq(Course.class), any())).thenThrow(new IllegalArgumentException("Unknown field: secret"));
+
+        mockMvc.perform(get("/admin/courses").param("fields", "secret"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testCreateCourse_Success() throws Exception {
         Course newCourse = new Course("Spring Boot", "Learn Spring Boot");
@@ -168,8 +256,85 @@ class AdminControllerIntegrationTest {
         verify(adminService).deleteCourse(1L);
     }
 
+    @Test
+    void testImportCoursesFromJson() throws Exception {
+        CourseImportResult result = new CourseImportResult(2, 1,
+                List.of(new CourseImportResult.RowError(2, "Course name cannot be null or empty")));
+        when(courseImportService.importJson(any(InputStream.class))).thenReturn(result);
+
+        mockMvc.perform(post("/admin/courses/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":\"Java\"},{\"name\":\"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2));
+
+        verify(courseImportService).importJson(any(InputStream.class));
+    }
+
+    @Test
+    void testImportCoursesFromMalformedJson() throws Exception {
+        when(courseImportService.importJson(any(InputStream.class))).thenThrow(new IOException("Unexpected end-of-input"));
+
+        mockMvc.perform(post("/admin/courses/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportCoursesFromCsv() throws Exception {
+        when(courseImportService.importCsv(any(Reader.class))).thenReturn(new CourseImportResult(1, 1, List.of()));
+
+        mockMvc.perform(post("/admin/courses/import")
+                .contentType("text/csv")
+                .content("name\nJava\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+
+        verify(courseImportService).importCsv(any(Reader.class));
+    }
+
+    @Test
+    void testImportCoursesFromCsvWithBadHeader() throws Exception {
+        when(courseImportService.importCsv(any(Reader.class))).thenThrow(new IllegalArgumentException("Unknown CSV column: colour"));
+
+        mockMvc.perform(post("/admin/courses/import")
+                .contentType("text/csv")
+                .content("colour\nred\n"))
+                .andExpect(status().isBadRequest());
+    }
+
     // ================ Student Endpoint Tests ================
 
+    @Test
+    void testGetAllStudentsAsSmileHasJsonShape() throws Exception {
+        when(adminService.getAllStudents()).thenReturn(List.of(testStudent));
+
+        byte[] smile = mockMvc.perform(get("/admin/students").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(List.of(testStudent))),
+                new ObjectMapper(new SmileFactory()).readTree(smile));
+    }
+
+    @Test
+    void testGetCoursePageAsCbor() throws Exception {
+        when(adminService.getCoursePage(null, 1)).thenReturn(new CursorPage<>(List.of(testCourse), "next", true));
+
+        byte[] cbor = mockMvc.perform(get("/admin/courses").param("limit", "1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        assertEquals("Java Programming", page.get("items").get(0).get("name").asText());
+        assertEquals("next", page.get("nextCursor").asText());
+    }
+
     @Test
     void testGetAllStudents() throws Exception {
         List<Student> students = Arrays.asList(testStudent);
@@ -185,6 +350,40 @@ class AdminControllerIntegrationTest {
         verify(adminService).getAllStudents();
     }
 
+    @Test
+    void testGetStudentPage() throws Exception {
+        when(adminService.getStudentPage("abc", 20))
+                .thenReturn(new CursorPage<>(Arrays.asList(testStudent), null, false));
+
+        mockMvc.perform(get("/admin/students").param("after", "abc").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("John Doe"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(adminService).getStudentPage("abc", 20);
+    }
+
+    @Test
+    void testGetStudentPageWithSparseFields() throws Exception {
+        when(adminService.getSparsePage(eq(Student.class), argThat(fields("id", "email")), eq(null), eq(20)))
+                .thenReturn(new CursorPage<>(List.of(Map.of("id", 1L, "email", "john@example.com")), null, false));
+
+        mockMvc.perform(get("/admin/students").param("fields", "email").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("john@example.com"))
+                .andExpect(jsonPath("$.items[0].name").doesNotExist());
+
+        verify(adminService, never()).getStudentPage(any(), any());
+    }
+
+    @Test
+    void testGetStudentsWithMalformedFields() throws Exception {
+        mockMvc.perform(get("/admin/students").param("fields", "name,"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(adminService);
+    }
+
     @Test
     void testGetStudentById_Found() throws Exception {
         when(adminService.getStudentById(1L)).thenReturn(Optional.of(testStudent));
@@ -226,6 +425,18 @@ class AdminControllerIntegrationTest {
         verify(adminService).getAllMessages();
     }
 
+    @Test
+    void testGetMessagePage() throws Exception {
+        when(adminService.getMessagePage(null, 50))
+                .thenReturn(new CursorPage<>(Arrays.asList(testMessage), null, false));
+
+        mockMvc.perform(get("/admin/messages").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].senderName").value("Alice"));
+
+        verify(adminService).getMessagePage(null, 50);
+    }
+
     @Test
     void testGetMessageById_Found() throws Exception {
         when(adminService.getMessageById(1L)).thenReturn(Optional.of(testMessage));
@@ -239,6 +450,19 @@ class AdminControllerIntegrationTest {
         verify(adminService).getMessageById(1L);
     }
 
+    @Test
+    void testGetMessageByIdWithSparseFields() throws Exception {
+        when(adminService.getSparseRow(eq(Message.class), argThat(fields("id", "senderName")), eq(1L)))
+                .thenReturn(Optional.of(Map.of("id", 1L, "senderName", "Alice")));
+
+        mockMvc.perform(get("/admin/messages/1").param("fields", "senderName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.senderName").value("Alice"))
+                .andExpect(jsonPath("$.content").doesNotExist());
+
+        verify(adminService, never()).getMessageById(anyLong());
+    }
+
     @Test
     void testGetMessageById_NotFound() throws Exception {
         when(adminService.getMessageById(1L)).thenReturn(Optional.empty());
@@ -249,6 +473,105 @@ class AdminControllerIntegrationTest {
         verify(adminService).getMessageById(1L);
     }
 
+    @Test
+    void testGetIngestionStats() throws Exception {
+        when(messageIngestionQueue.getStats()).thenReturn(Map.of("queueDepth", 7));
+
+        mockMvc.perform(get("/admin/messages/ingestion/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueDepth").value(7));
+    }
+
+    @Test
+    void testGetRateLimitStats() throws Exception {
+        when(contactRateLimiter.getStats()).thenReturn(Map.of("rejectedByIp", 4));
+
+        mockMvc.perform(get("/admin/messages/ratelimit/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejectedByIp").value(4));
+    }
+
+    // ================ Export Endpoint Tests ================
+
+    @Test
+    void testExportMessagesStreamsNdjson() throws Exception {
+        when(dataExportService.exportMessages(any(OutputStream.class), eq(DataExportService.Format.NDJSON)))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(0);
+                    out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/admin/messages/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"messages.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+
+        verify(dataExportService).exportMessages(any(OutputStream.class), eq(DataExportService.Format.NDJSON));
+    }
+
+    @Test
+    void testExportStudentsAsCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/admin/students/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"students.csv\""));
+
+        verify(dataExportService).exportStudents(any(OutputStream.class), eq(DataExportService.Format.CSV));
+    }
+
+    @Test
+    void testSlowExportIsNotCutOffByDefaultAsyncTimeout() throws Exception {
+        when(dataExportService.exportStudents(any(OutputStream.class), eq(DataExportService.Format.NDJSON)))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(0);
+                    out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    Thread.sleep(500);
+                    out.write("{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+                    return 2L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/admin/students/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(10_000L, result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void testExportWithUnknownFormat() throws Exception {
+        mockMvc.perform(get("/admin/messages/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(dataExportService);
+    }
+
+    // ================ Cache Endpoint Tests ================
+
+    @Test
+    void testGetCacheStats() throws Exception {
+        when(adminService.getCourseCacheStats()).thenReturn(Map.of("coursesById", Map.of("hitCount", 3)));
+
+        mockMvc.perform(get("/admin/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coursesById.hitCount").value(3));
+
+        verify(adminService).getCourseCacheStats();
+    }
+
     // ================ CORS Configuration Test ================
 
     @Test
@@ -275,4 +598,8 @@ class AdminControllerIntegrationTest {
                 .andExpect(header().string("Access-Control-Allow-Methods", "GET,HEAD,POST,PUT,DELETE,OPTIONS"))
                 .andExpect(header().string("Access-Control-Allow-Headers", "Content-Type"));
     }
-}
\ No newline at end of file
+
+    private static ArgumentMatcher<FieldSelection> fields(String... names) {
+        return selection -> selection.getFields().equals(List.of(names));
+    }
+}
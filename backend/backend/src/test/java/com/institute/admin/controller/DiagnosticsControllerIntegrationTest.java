@@ -0,0 +1,81 @@
+package com.institute.admin.controller;
+
+import com.institute.admin.monitoring.HibernateDiagnostics;
+import com.institute.admin.monitoring.SqlStatementMetrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DiagnosticsController.class)
+class DiagnosticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SqlStatementMetrics sqlStatementMetrics;
+
+    @MockBean
+    private HibernateDiagnostics hibernateDiagnostics;
+
+    // ================ SQL Statement Tests ================
+
+    @Test
+    void testGetSqlStatementsUsesDefaultLimit() throws Exception {
+        when(sqlStatementMetrics.getSummary(50))
+                .thenReturn(Map.of("statements", List.of(Map.of("sql", "select * from course where id=?", "calls", 3))));
+
+        mockMvc.perform(get("/admin/diagnostics/sql"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statements[0].calls").value(3));
+    }
+
+    @Test
+    void testGetSqlStatementsRejectsInvalidLimit() throws Exception {
+        mockMvc.perform(get("/admin/diagnostics/sql").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(sqlStatementMetrics, never()).getSummary(anyInt());
+    }
+
+    // ================ Hibernate Statistics Tests ================
+
+    @Test
+    void testGetHibernateStatistics() throws Exception {
+        when(hibernateDiagnostics.getStatistics())
+                .thenReturn(Map.of("enabled", true, "entities", Map.of("loads", 12)));
+
+        mockMvc.perform(get("/admin/diagnostics/hibernate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.entities.loads").value(12));
+    }
+
+    // ================ Storage Tests ================
+
+    @Test
+    void testGetStorageWithoutPersistentProfile() throws Exception {
+        mockMvc.perform(get("/admin/diagnostics/storage"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testResetStatistics() throws Exception {
+        mockMvc.perform(delete("/admin/diagnostics/statistics"))
+                .andExpect(status().isNoContent());
+
+        verify(sqlStatementMetrics).reset();
+        verify(hibernateDiagnostics).reset();
+    }
+}
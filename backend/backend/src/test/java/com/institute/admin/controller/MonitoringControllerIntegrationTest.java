@@ -0,0 +1,129 @@
+package com.institute.admin.controller;
+
+import com.institute.admin.dto.ApiPerformanceBatch;
+import com.institute.admin.monitoring.ApiLatencyAggregator;
+import com.institute.admin.monitoring.ClientErrorAggregator;
+import com.institute.admin.monitoring.RealUserMetricsStore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MonitoringController.class)
+class MonitoringControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ClientErrorAggregator clientErrorAggregator;
+
+    @MockBean
+    private RealUserMetricsStore realUserMetricsStore;
+
+    @MockBean
+    private ApiLatencyAggregator apiLatencyAggregator;
+
+    // ================ Client Error Endpoint Tests ================
+
+    @Test
+    void testSubmitErrorBatch() throws Exception {
+        when(clientErrorAggregator.submit(anyList())).thenReturn(1);
+
+        mockMvc.perform(post("/api/monitoring/errors/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"errors\":[{\"message\":\"boom\",\"stack\":\"at x\",\"url\":\"/\",\"severity\":\"high\","
+                        + "\"sessionId\":\"s1\",\"version\":\"1.0\",\"timestamp\":\"2026-01-01T00:00:00Z\"},"
+                        + "{\"message\":\"boom again\"}],\"timestamp\":\"2026-01-01T00:00:00Z\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.dropped").value(1));
+
+        verify(clientErrorAggregator).submit(anyList());
+    }
+
+    @Test
+    void testGetErrorSummary() throws Exception {
+        when(clientErrorAggregator.getSummary()).thenReturn(Map.of("accepted", 12));
+
+        mockMvc.perform(get("/api/monitoring/errors/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(12));
+    }
+
+    // ================ Real-User Performance Endpoint Tests ================
+
+    @Test
+    void testSubmitPerformanceBatch() throws Exception {
+        when(realUserMetricsStore.record(anyList())).thenReturn(3);
+
+        mockMvc.perform(post("/api/monitoring/performance/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"reports\":[{\"metrics\":{\"fcp\":812.5,\"lcp\":1430,\"ttfb\":95},"
+                        + "\"url\":\"https://site/courses\",\"connectionType\":\"4g\",\"sessionId\":\"s1\"}],"
+                        + "\"timestamp\":\"2026-01-01T00:00:00Z\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.recorded").value(3));
+    }
+
+    @Test
+    void testGetPerformancePercentiles() throws Exception {
+        when(realUserMetricsStore.getPercentiles("/courses", "lcp"))
+                .thenReturn(Map.of("series", List.of(Map.of("metric", "lcp", "p95", 2400.0))));
+
+        mockMvc.perform(get("/api/monitoring/performance/percentiles")
+                .param("url", "/courses")
+                .param("metric", "lcp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.series[0].p95").value(2400.0));
+    }
+
+    // ================ API Performance Endpoint Tests ================
+
+    @Test
+    void testSubmitSingleApiPerformanceReport() throws Exception {
+        when(apiLatencyAggregator.recordClient(any(ApiPerformanceBatch.Report.class))).thenReturn(true);
+
+        mockMvc.perform(post("/api/monitoring/api-performance")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"endpoint\":\"http://localhost:8080/api/public/courses/3\",\"responseTime\":84.2,"
+                        + "\"status\":200,\"success\":true,\"timestamp\":\"2026-01-01T00:00:00Z\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.recorded").value(1));
+    }
+
+    @Test
+    void testSubmitApiPerformanceBatch() throws Exception {
+        when(apiLatencyAggregator.recordClient(anyList())).thenReturn(2);
+
+        mockMvc.perform(post("/api/monitoring/api-performance/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"reports\":[{\"endpoint\":\"/api/public/courses\",\"responseTime\":120,\"status\":200,"
+                        + "\"success\":true},{\"endpoint\":\"/api/public/contact\",\"responseTime\":30000,"
+                        + "\"status\":0,\"success\":false}],\"timestamp\":\"2026-01-01T00:00:00Z\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.recorded").value(2));
+    }
+
+    @Test
+    void testGetApiPerformanceSummary() throws Exception {
+        when(apiLatencyAggregator.getSummary())
+                .thenReturn(Map.of("endpoints", List.of(Map.of("endpoint", "/api/public/courses"))));
+
+        mockMvc.perform(get("/api/monitoring/api-performance/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.endpoints[0].endpoint").value("/api/public/courses"));
+    }
+}
@@ -0,0 +1,418 @@
+package com.institute.admin.controller;
+
+import com.institute.admin.dto.CourseBatchResult;
+import com.institute.admin.dto.CourseSummary;
+import com.institute.admin.dto.CourseView;
+import com.institute.admin.ingest.MessageIngestionQueue;
+import com.institute.admin.model.Course;
+import com.institute.admin.model.Message;
+import com.institute.admin.ratelimit.ContactRateLimiter;
+import com.institute.admin.services.AdminService;
+import com.institute.admin.services.CatalogResponseService;
+import com.institute.admin.services.CatalogResponseService.CatalogResponse;
+import com.institute.admin.services.InstituteInfoService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PublicController.class)
+class PublicControllerIntegrationTest {
+
+    private static final String CATALOG_ETAG = "\"catalog-abc-3-full-identity\"";
+    private static final String BROTLI_ETAG = "\"catalog-abc-3-full-br\"";
+    private static final byte[] JSON_BODY = "[{\"id\":1,\"name\":\"Java Programming\"}]".getBytes(StandardCharsets.UTF_8);
+    private static final String COURSE_ETAG = "\"course-1-abc-3\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AdminService adminService;
+
+    @MockBean
+    private InstituteInfoService instituteInfoService;
+
+    @MockBean
+    private MessageIngestionQueue messageIngestionQueue;
+
+    @MockBean
+    private ContactRateLimiter contactRateLimiter;
+
+    @MockBean
+    private CatalogResponseService catalogResponseService;
+
+    private Course testCourse;
+
+    @BeforeEach
+    void setUp() {
+        testCourse = new Course("Java Programming", "Learn Java fundamentals");
+        testCourse.setId(1L);
+
+        when(adminService.getCourseETag(1L)).thenReturn(COURSE_ETAG);
+    }
+
+    // ================ Course Endpoint Tests ================
+
+    @Test
+    void testGetAllCourses_WritesStoredBytes() throws Exception {
+        when(catalogResponseService.getCatalog(CourseView.FULL, null))
+                .thenReturn(new CatalogResponse(JSON_BODY, null, CATALOG_ETAG));
+
+        mockMvc.perform(get("/api/public/courses"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", CATALOG_ETAG))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(JSON_BODY));
+
+        verify(adminService, never()).getAllCourses();
+    }
+
+    @Test
+    void testGetAllCourses_Compressed() throws Exception {
+        byte[] compressed = {31, -117, 8, 0};
+        when(catalogResponseService.getCatalog(CourseView.FULL, "gzip, deflate, br"))
+                .thenReturn(new CatalogResponse(compressed, "br", BROTLI_ETAG));
+
+        mockMvc.perform(get("/api/public/courses").header("Accept-Encoding", "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "br"))
+                .andExpect(header().string("ETag", BROTLI_ETAG))
+                .andExpect(content().bytes(compressed));
+    }
+
+    @Test
+    void testGetAllCourses_AnyAcceptGetsJson() throws Exception {
+        when(catalogResponseService.getCatalog(CourseView.FULL, null))
+                .thenReturn(new CatalogResponse(JSON_BODY, null, CATALOG_ETAG));
+
+        mockMvc.perform(get("/api/public/courses").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(JSON_BODY));
+    }
+
+    @Test
+    void testGetAllCourses_Cbor() throws Exception {
+        when(adminService.getCatalogETag("summary-cbor")).thenReturn("\"catalog-abc-3-summary-cbor\"");
+        when(adminService.getCourseSummaries())
+                .thenReturn(List.of(new CourseSummary(1L, "Java Programming", "Beginner", "Backend", 99.0, 4.5)));
+
+        byte[] cbor = mockMvc.perform(get("/api/public/courses").param("view", "summary").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"catalog-abc-3-summary-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode courses = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        assertEquals("Java Programming", courses.get(0).get("name").asText());
+        assertEquals(4.5, courses.get(0).get("rating").asDouble());
+        verify(catalogResponseService, never()).getCatalog(any(), any());
+    }
+
+    @Test
+    void testGetAllCourses_CborSparseFields() throws Exception {
+        String etag = "\"catalog-abc-3-fields-id.name-cbor\"";
+        when(adminService.getCatalogETag("fields-id.name-cbor")).thenReturn(etag);
+        when(adminService.getSparseRows(eq(Course.class), any()))
+                .thenReturn(List.of(Map.of("id", 1L, "name", "Java Programming")));
+
+        byte[] cbor = mockMvc.perform(get("/api/public/courses").param("fields", "id,name").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", etag))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode courses = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        assertEquals("Java Programming", courses.get(0).get("name").asText());
+        assertNull(courses.get(0).get("description"));
+        verify(adminService, never()).getAllCourses();
+    }
+
+    @Test
+    void testGetAllCourses_SmileFieldsWithView() throws Exception {
+        mockMvc.perform(get("/api/public/courses").param("fields", "name").param("view", "summary")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isBadRequest());
+
+        verify(adminService, never()).getSparseRows(any(), any());
+        verify(adminService, never()).getCourseSummaries();
+    }
+
+    @Test
+    void testGetAllCourses_SmileNotModified() throws Exception {
+        when(adminService.getCatalogETag("full-smile")).thenReturn("\"catalog-abc-3-full-smile\"");
+
+        mockMvc.perform(get("/api/public/courses").accept("application/x-jackson-smile")
+                        .header("If-None-Match", "\"catalog-abc-3-full-smile\""))
+                .andExpect(status().isNotModified());
+
+        verify(adminService, never()).getAllCourses();
+    }
+
+    @Test
+    void testGetAllCourses_SummaryView() throws Exception {
+        when(catalogResponseService.getCatalog(CourseView.SUMMARY, null))
+                .thenReturn(new CatalogResponse(JSON_BODY, null, CATALOG_ETAG));
+
+        mockMvc.perform(get("/api/public/courses").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Java Programming"));
+    }
+
+    @Test
+    void testGetAllCourses_UnknownView() throws Exception {
+        mockMvc.perform(get("/api/public/courses").param("view", "compact"))
+                .andExpect(status().isBadRequest());
+
+        verify(catalogResponseService, never()).getCatalog(any(), any());
+    }
+
+    @Test
+    void testGetAllCourses_NotModified() throws Exception {
+        when(catalogResponseService.getCatalog(CourseView.FULL, null))
+                .thenReturn(new CatalogResponse(JSON_BODY, null, CATALOG_ETAG));
+
+        mockMvc.perform(get("/api/public/courses").header("If-None-Match", CATALOG_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", CATALOG_ETAG))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetAllCourses_OtherEncodingETag() throws Exception {
+        when(catalogResponseService.getCatalog(CourseView.FULL, null))
+                .thenReturn(new CatalogResponse(JSON_BODY, null, CATALOG_ETAG));
+
+        // A tag received with brotli does not validate the identity representation
+        mockMvc.perform(get("/api/public/courses").header("If-None-Match", BROTLI_ETAG))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", CATALOG_ETAG));
+    }
+
+    @Test
+    void testGetAllCourses_SparseFields() throws Exception {
+        String etag = "\"catalog-abc-3-fields-id.name.price\"";
+        when(adminService.getCatalogETag("fields-id.name.price")).thenReturn(etag);
+        when(adminService.getSparseRows(eq(Course.class), any()))
+                .thenReturn(List.of(Map.of("id", 1L, "name", "Java Programming", "price", 99.0)));
+
+        mockMvc.perform(get("/api/public/courses").param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$[0].price").value(99.0))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(catalogResponseService, never()).getCatalog(any(), any());
+    }
+
+    @Test
+    void testGetAllCourses_SparseFieldsNotModified() throws Exception {
+        String etag = "\"catalog-abc-3-fields-id.name\"";
+        when(adminService.getCatalogETag("fields-id.name")).thenReturn(etag);
+
+        mockMvc.perform(get("/api/public/courses").param("fields", "name").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(adminService, never()).getSparseRows(any(), any());
+    }
+
+    @Test
+    void testGetAllCourses_MalformedFields() throws Exception {
+        mockMvc.perform(get("/api/public/courses").param("fields", "name;price"))
+                .andExpect(status().isBadRequest());
+
+        verify(adminService, never()).getSparseRows(any(), any());
+    }
+
+    @Test
+    void testGetCourseById_SparseFields() throws Exception {
+        when(adminService.getSparseRow(eq(Course.class), any(), eq(1L)))
+                .thenReturn(Optional.of(Map.of("id", 1L, "name", "Java Programming")));
+
+        mockMvc.perform(get("/api/public/courses/1").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", COURSE_ETAG))
+                .andExpect(jsonPath("$.name").value("Java Programming"))
+                .andExpect(jsonPath("$.description").doesNotExist());
+
+        verify(adminService, never()).getCourseById(anyLong());
+    }
+
+    @Test
+    void testGetCoursesByIds() throws Exception {
+        Course second = new Course("Spring Boot", "Learn Spring Boot");
+        second.setId(5L);
+        when(adminService.getCatalogETag("batch")).thenReturn("\"catalog-abc-3-batch\"");
+        when(adminService.getCoursesByIds(List.of(5L, 9L, 1L)))
+                .thenReturn(new CourseBatchResult(List.of(second, testCourse), List.of(9L)));
+
+        mockMvc.perform(get("/api/public/courses").param("ids", "5,9,1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"catalog-abc-3-batch\""))
+                .andExpect(jsonPath("$.courses[0].id").value(5))
+                .andExpect(jsonPath("$.courses[1].id").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(9));
+
+        verify(catalogResponseService, never()).getCatalog(any(), any());
+    }
+
+    @Test
+    void testGetCoursesByIds_TooMany() throws Exception {
+        String ids = String.join(",", LongStream.rangeClosed(1, 101).mapToObj(Long::toString).toList());
+
+        mockMvc.perform(get("/api/public/courses").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        verify(adminService, never()).getCoursesByIds(any());
+    }
+
+    @Test
+    void testGetCoursesByIds_NotANumber() throws Exception {
+        mockMvc.perform(get("/api/public/courses").param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+
+        verify(adminService, never()).getCoursesByIds(any());
+    }
+
+    @Test
+    void testGetCourseById_ReturnsETag() throws Exception {
+        when(adminService.getCourseById(1L)).thenReturn(Optional.of(testCourse));
+
+        mockMvc.perform(get("/api/public/courses/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", COURSE_ETAG))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void testGetCourseById_NotModified() throws Exception {
+        mockMvc.perform(get("/api/public/courses/1").header("If-None-Match", COURSE_ETAG))
+                .andExpect(status().isNotModified());
+
+        verify(adminService, never()).getCourseById(anyLong());
+    }
+
+    @Test
+    void testGetCourseById_NotFound() throws Exception {
+        when(adminService.getCourseETag(2L)).thenReturn("\"course-2-abc-3\"");
+        when(adminService.getCourseById(2L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/public/courses/2"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetFacetedCourses_PageOutOfRange() throws Exception {
+        when(adminService.getFacetedCourses(any(), eq(Integer.MAX_VALUE), eq(10)))
+                .thenThrow(new IllegalArgumentException("Page is out of range"));
+
+        mockMvc.perform(get("/api/public/courses/facets")
+                        .param("page", String.valueOf(Integer.MAX_VALUE))
+                        .param("size", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ================ Institute Information Tests ================
+
+    @Test
+    void testGetInstituteInfo() throws Exception {
+        when(instituteInfoService.getInstituteInfoJson())
+                .thenReturn("{\"name\":\"Excellence Institute\",\"statistics\":{\"totalCourses\":4}}".getBytes());
+
+        mockMvc.perform(get("/api/public/institute-info"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Excellence Institute"))
+                .andExpect(jsonPath("$.statistics.totalCourses").value(4));
+
+        verify(adminService, never()).getAllCourses();
+    }
+
+    // ================ Contact Form Tests ================
+
+    private static final String CONTACT_FORM =
+            "{\"name\":\"Jane\",\"email\":\"jane@example.com\",\"message\":\"Hello\"}";
+
+    @Test
+    void testSubmitContactForm_SavesSynchronously() throws Exception {
+        mockMvc.perform(post("/api/public/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CONTACT_FORM))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(adminService).addMessage(any(Message.class));
+        verify(messageIngestionQueue, never()).offer(any(Message.class));
+    }
+
+    @Test
+    void testSubmitContactForm_AcceptedWhenAsync() throws Exception {
+        when(messageIngestionQueue.isAsync()).thenReturn(true);
+        when(messageIngestionQueue.offer(any(Message.class))).thenReturn(true);
+
+        mockMvc.perform(post("/api/public/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CONTACT_FORM))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(adminService).validateMessage(any(Message.class));
+        verify(adminService, never()).addMessage(any(Message.class));
+    }
+
+    @Test
+    void testSubmitContactForm_TooManyRequestsWhenQueueFull() throws Exception {
+        when(messageIngestionQueue.isAsync()).thenReturn(true);
+        when(messageIngestionQueue.offer(any(Message.class))).thenReturn(false);
+
+        mockMvc.perform(post("/api/public/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CONTACT_FORM))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void testSubmitContactForm_RateLimited() throws Exception {
+        when(contactRateLimiter.acquire(anyString(), eq("jane@example.com"))).thenReturn(1500L);
+
+        mockMvc.perform(post("/api/public/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CONTACT_FORM))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(adminService, never()).addMessage(any(Message.class));
+        verify(messageIngestionQueue, never()).offer(any(Message.class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.institute.admin.ingest;
+
+import com.institute.admin.model.Message;
+import com.institute.admin.repository.MessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class MessageIngestionQueueTest {
+
+    private final MessageRepository messageRepository = mock(MessageRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Integer> savedBatchSizes = new ArrayList<>();
+
+    private MessageIngestionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    private MessageIngestionQueue newQueue(String mode, int capacity, int maxBatchSize) {
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Message> batch = invocation.getArgument(0);
+            synchronized (savedBatchSizes) {
+                savedBatchSizes.add(batch.size());
+            }
+            return batch;
+        });
+        return new MessageIngestionQueue(messageRepository, transactionManager, registry, mode, capacity, maxBatchSize,
+                Duration.ofMillis(50));
+    }
+
+    private static Message message(int i) {
+        return new Message("Sender " + i, "sender" + i + "@example.com", "Content " + i);
+    }
+
+    @Test
+    void testSyncModeIsNotStarted() {
+        queue = newQueue("sync", 10, 5);
+        queue.start();
+
+        assertFalse(queue.isAsync());
+        assertFalse(queue.isRunning());
+    }
+
+    @Test
+    void testWriterCommitsQueuedMessagesInBatches() throws Exception {
+        queue = newQueue("async", 100, 4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(message(i)));
+        }
+
+        queue.start();
+        queue.stop();
+
+        // Everything queued before shutdown is saved, in batches no larger than the limit
+        assertEquals(List.of(4, 4, 2), savedBatchSizes);
+        Map<String, Object> stats = queue.getStats();
+        assertEquals(10L, stats.get("written"));
+        assertEquals(3L, stats.get("batches"));
+        assertEquals(4L, stats.get("largestBatchSize"));
+        assertEquals(0, stats.get("queueDepth"));
+    }
+
+    @Test
+    void testFullQueueRejects() {
+        queue = newQueue("async", 2, 10);
+
+        assertTrue(queue.offer(message(1)));
+        assertTrue(queue.offer(message(2)));
+        assertFalse(queue.offer(message(3)));
+
+        assertEquals(2L, queue.getStats().get("accepted"));
+        assertEquals(1L, queue.getStats().get("rejected"));
+    }
+
+    @Test
+    void testFailedBatchIsRetriedIndividually() {
+        queue = newQueue("async", 10, 10);
+        when(messageRepository.saveAll(anyList())).thenThrow(new RuntimeException("constraint"));
+        Message bad = message(2);
+        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == bad) {
+                throw new RuntimeException("bad row");
+            }
+            return invocation.getArgument(0);
+        });
+
+        queue.write(List.of(message(1), bad, message(3)));
+
+        assertEquals(2L, queue.getStats().get("written"));
+        assertEquals(1L, queue.getStats().get("failed"));
+        verify(messageRepository, times(3)).save(any(Message.class));
+    }
+
+    @Test
+    void testPublishesMeters() {
+        queue = newQueue("async", 10, 10);
+        assertTrue(queue.offer(message(1)));
+        assertTrue(queue.offer(message(2)));
+
+        assertEquals(2.0, registry.get(MessageIngestionQueue.QUEUE_DEPTH).gauge().value());
+
+        queue.write(List.of(message(3), message(4), message(5)));
+
+        assertEquals(1L, registry.get(MessageIngestionQueue.BATCH_SIZE).summary().count());
+        assertEquals(3.0, registry.get(MessageIngestionQueue.BATCH_SIZE).summary().totalAmount());
+        assertEquals(1L, registry.get(MessageIngestionQueue.COMMIT).timer().count());
+        assertEquals(2.0, registry.get(MessageIngestionQueue.MESSAGES).tag("outcome", "accepted").counter().count());
+        assertEquals(3.0, registry.get(MessageIngestionQueue.MESSAGES).tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    void testStopRejectsNewMessages() {
+        queue = newQueue("async", 10, 10);
+        queue.start();
+        queue.stop();
+
+        assertFalse(queue.offer(message(1)));
+    }
+}
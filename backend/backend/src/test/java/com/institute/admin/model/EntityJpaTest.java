@@ -1,17 +1,35 @@
 package com.institute.admin.model;
 
+import com.institute.admin.dto.CourseSummary;
+import com.institute.admin.dto.FieldSelection;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.repository.FieldSelectionRepository;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
+@Import(FieldSelectionRepository.class)
 class EntityJpaTest {
 
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private FieldSelectionRepository fieldSelectionRepository;
+
     @Test
     void testCourseJpaAnnotations() {
         Course course = new Course("Test Course", "Test Description");
@@ -54,4 +72,90 @@ class EntityJpaTest {
         assertEquals("sender@example.com", savedMessage.getEmail());
         assertEquals("Test Content", savedMessage.getContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCourseKeysetPage() {
+        Course first = entityManager.persist(new Course("First", "First course"));
+        Course second = entityManager.persist(new Course("Second", "Second course"));
+        Course third = entityManager.persist(new Course("Third", "Third course"));
+        entityManager.flush();
+
+        List<Course> page = courseRepository.findByIdGreaterThanOrderByIdAsc(first.getId(), Limit.of(1));
+
+        assertEquals(1, page.size());
+        assertEquals(second.getId(), page.get(0).getId());
+
+        List<Course> rest = courseRepository.findByIdGreaterThanOrderByIdAsc(second.getId(), Limit.of(10));
+
+        assertEquals(1, rest.size());
+        assertEquals(third.getId(), rest.get(0).getId());
+    }
+
+    @Test
+    void testCourseSummariesAreNotManaged() {
+        Course course = new Course("Summary", "Long description that list views never read");
+        course.setLevel("Beginner");
+        course.setCategory("Backend");
+        course.setPrice(49.0);
+        course.setRating(4.5);
+        Course saved = entityManager.persistAndFlush(course);
+        entityManager.clear();
+
+        List<CourseSummary> summaries = courseRepository.findAllSummaries();
+
+        assertEquals(1, summaries.size());
+        CourseSummary summary = summaries.get(0);
+        assertEquals(saved.getId(), summary.getId());
+        assertEquals("Summary", summary.getName());
+        assertEquals("Beginner", summary.getLevel());
+        assertEquals("Backend", summary.getCategory());
+        assertEquals(49.0, summary.getPrice());
+        assertEquals(4.5, summary.getRating());
+        // Constructor expressions do not put entities into the persistence context
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testSparseFieldsSelectOnlyRequestedColumns() {
+        Course course = new Course("Sparse", "Long description that is never selected");
+        course.setPrice(49.0);
+        Course saved = entityManager.persistAndFlush(course);
+        Student student = entityManager.persistAndFlush(new Student("Sparse Student", "sparse@example.com"));
+        entityManager.clear();
+
+        List<Map<String, Object>> courses = fieldSelectionRepository.findAll(Course.class, FieldSelection.parse("price,name"));
+        Map<String, Object> studentRow = fieldSelectionRepository.findById(Student.class, FieldSelection.parse("email"), student.getId())
+                .orElseThrow();
+
+        assertEquals(List.of(Map.of("id", saved.getId(), "price", 49.0, "name", "Sparse")), courses);
+        assertEquals(List.of("id", "price", "name"), List.copyOf(courses.get(0).keySet()));
+        assertEquals(Map.of("id", student.getId(), "email", "sparse@example.com"), studentRow);
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testSparseFieldsKeysetPage() {
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new Message("Sender " + i, "sender" + i + "@example.com", "Content " + i));
+        }
+        entityManager.flush();
+        FieldSelection selection = FieldSelection.parse("senderName");
+
+        List<Map<String, Object>> all = fieldSelectionRepository.findAll(Message.class, selection);
+        List<Map<String, Object>> page = fieldSelectionRepository.findByIdGreaterThan(Message.class, selection,
+                (Long) all.get(0).get("id"), 1);
+
+        assertEquals(3, all.size());
+        assertEquals(List.of(Map.of("id", all.get(1).get("id"), "senderName", "Sender 1")), page);
+    }
+
+    @Test
+    void testSparseFieldsRejectUnknownAttributes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> fieldSelectionRepository.findAll(Course.class, FieldSelection.parse("name,password")));
+        assertThrows(IllegalArgumentException.class,
+                () -> fieldSelectionRepository.findAll(Student.class, FieldSelection.parse("price")));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("name,"));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("name;drop"));
+    }
+}
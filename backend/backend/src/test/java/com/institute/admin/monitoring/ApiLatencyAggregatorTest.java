@@ -0,0 +1,112 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.dto.ApiPerformanceBatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiLatencyAggregatorTest {
+
+    private final ApiLatencyAggregator aggregator =
+            new ApiLatencyAggregator(10, Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC));
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> endpoints() {
+        return (List<Map<String, Object>>) aggregator.getSummary().get("endpoints");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> side(Map<String, Object> row, String side) {
+        return (Map<String, Object>) row.get(side);
+    }
+
+    @Test
+    void testClientPercentiles() {
+        List<ApiPerformanceBatch.Report> reports = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            reports.add(new ApiPerformanceBatch.Report("http://localhost:8080/api/public/courses?page=1", (double) i * 10, 200, true));
+        }
+        assertEquals(100, aggregator.recordClient(reports));
+
+        Map<String, Object> row = endpoints().get(0);
+        assertEquals("/api/public/courses", row.get("endpoint"));
+        Map<String, Object> client = side(row, "client");
+        assertEquals(100L, client.get("count"));
+        assertEquals(500.0, (Double) client.get("p50"), 50.0);
+        assertEquals(950.0, (Double) client.get("p95"), 95.0);
+        assertEquals(1000.0, (Double) client.get("max"), 0.001);
+        assertEquals(Map.of("2xx", 100L), client.get("statuses"));
+        assertFalse(row.containsKey("clientOverheadMs"));
+    }
+
+    @Test
+    void testCorrelatesClientAndServerByRoute() {
+        aggregator.recordClient(new ApiPerformanceBatch.Report("/api/public/courses/7", 150.0, 200, true));
+        aggregator.recordClient(new ApiPerformanceBatch.Report("/api/public/courses/8", 150.0, 404, false));
+        aggregator.recordServer("/api/public/courses/{id}", TimeUnit.MILLISECONDS.toNanos(20), 200);
+
+        List<Map<String, Object>> endpoints = endpoints();
+        assertEquals(1, endpoints.size());
+        Map<String, Object> row = endpoints.get(0);
+        assertEquals("/api/public/courses/{id}", row.get("endpoint"));
+        assertEquals(2L, side(row, "client").get("count"));
+        assertEquals(1L, side(row, "client").get("failures"));
+        assertEquals(1L, side(row, "server").get("count"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> overhead = (Map<String, Object>) row.get("clientOverheadMs");
+        assertEquals(130.0, (Double) overhead.get("p50"), 15.0);
+    }
+
+    @Test
+    void testRejectsInvalidReportsAndCapsEndpoints() {
+        assertFalse(aggregator.recordClient(new ApiPerformanceBatch.Report(null, 10.0, 200, true)));
+        assertFalse(aggregator.recordClient(new ApiPerformanceBatch.Report("/api/x", -1.0, 200, true)));
+        assertEquals(2L, aggregator.getSummary().get("rejected"));
+
+        for (int i = 0; i < 20; i++) {
+            aggregator.recordServer("/api/public/route" + (char) ('a' + i), 1_000_000, 200);
+        }
+        List<Map<String, Object>> endpoints = endpoints();
+        assertEquals(11, endpoints.size());
+        assertEquals(UrlPaths.OTHER, endpoints.get(0).get("endpoint"));
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNothing() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    aggregator.recordServer("/api/public/courses", 1_000_000L + i, 200);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(40_000L, side(endpoints().get(0), "server").get("count"));
+    }
+
+    @Test
+    void testBucketBoundsAreIncreasing() {
+        long[] bounds = ApiLatencyAggregator.LatencyHistogram.BOUNDS;
+        assertTrue(bounds.length > 50);
+        long[] sorted = bounds.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, bounds);
+        assertEquals(bounds.length, Arrays.stream(bounds).distinct().count());
+    }
+}
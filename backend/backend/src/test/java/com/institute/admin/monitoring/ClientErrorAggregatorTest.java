@@ -0,0 +1,118 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.dto.ClientErrorBatch;
+import com.institute.admin.model.ErrorRollup;
+import com.institute.admin.repository.ErrorRollupRepository;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ClientErrorAggregatorTest {
+
+    private static final String STACK = "TypeError: x is undefined\n"
+            + "    at render (https://site/main.3f9a1c2b7d.js:10:15)\n"
+            + "    at update (https://site/main.3f9a1c2b7d.js:20:3)";
+
+    private final ErrorRollupRepository repository = mock(ErrorRollupRepository.class);
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:05Z"));
+    private final ClientErrorAggregator aggregator =
+            new ClientErrorAggregator(repository, mock(PlatformTransactionManager.class), 64, 3, clock);
+
+    private static ClientErrorBatch.Report report(String message, String stack) {
+        return new ClientErrorBatch.Report(message, stack, "https://site/courses", "high");
+    }
+
+    @Test
+    void testFingerprintIgnoresNumbersLinesAndBundleHashes() {
+        String other = STACK.replace(":10:15", ":11:2").replace("3f9a1c2b7d", "77aa88bb99");
+
+        assertEquals(ClientErrorAggregator.fingerprint("Failed to load course 12", STACK),
+                ClientErrorAggregator.fingerprint("Failed to load course 99", other));
+        assertNotEquals(ClientErrorAggregator.fingerprint("Failed to load course", STACK),
+                ClientErrorAggregator.fingerprint("Something else", STACK));
+    }
+
+    @Test
+    void testSubmitCapsBatchAndSkipsEmptyReports() {
+        int queued = aggregator.submit(List.of(report("a", null), report("b", null), new ClientErrorBatch.Report(), report("d", null)));
+
+        assertEquals(2, queued);
+    }
+
+    @Test
+    void testRollupsArePersistedOnlyAfterTheMinuteCloses() {
+        aggregator.submit(List.of(report("Failed 1", STACK), report("Failed 2", STACK), report("Other", null)));
+        aggregator.drainAndFlush();
+
+        verify(repository, never()).saveAll(any());
+        Map<String, Object> summary = aggregator.getSummary();
+        assertEquals(Map.of("2026-01-01T10:00:00Z", 3L), summary.get("perMinute"));
+        List<?> top = (List<?>) summary.get("topPending");
+        assertEquals(2L, ((Map<?, ?>) top.get(0)).get("count"));
+
+        clock.set(Instant.parse("2026-01-01T10:01:00Z"));
+        aggregator.drainAndFlush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ErrorRollup>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        ErrorRollup failed = saved.getValue().stream().filter(r -> r.getOccurrences() == 2).findFirst().orElseThrow();
+        assertEquals(Instant.parse("2026-01-01T10:00:00Z"), failed.getMinuteStart());
+        assertEquals("Failed 1", failed.getMessage());
+    }
+
+    @Test
+    void testLateEventsAreAddedToStoredRollup() {
+        String fingerprint = ClientErrorAggregator.fingerprint("Late", null);
+        ErrorRollup stored = new ErrorRollup(fingerprint, Instant.parse("2026-01-01T10:00:00Z"));
+        stored.setOccurrences(5);
+        when(repository.findByMinuteStartIn(anyCollection())).thenReturn(List.of(stored));
+
+        aggregator.submit(List.of(report("Late", null)));
+        aggregator.flushAll();
+
+        assertEquals(6, stored.getOccurrences());
+        verify(repository).saveAll(List.of(stored));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
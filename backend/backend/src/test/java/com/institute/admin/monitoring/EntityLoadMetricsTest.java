@@ -0,0 +1,81 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.model.Message;
+import com.institute.admin.repository.MessageRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({EntityLoadMetrics.class, EntityLoadMetricsTest.Registry.class})
+class EntityLoadMetricsTest {
+
+    @TestConfiguration
+    static class Registry {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EntityLoadMetrics entityLoadMetrics;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private double totalLoads() {
+        return meterRegistry.get("institute.hibernate.entity.loads").counter().count();
+    }
+
+    @Test
+    void testCountsLoadsPerRequest() {
+        entityManager.persist(new Message("Alice", "alice@example.com", "First"));
+        entityManager.persist(new Message("Bob", "bob@example.com", "Second"));
+        entityManager.persist(new Message("Carol", "carol@example.com", "Third"));
+        entityManager.flush();
+        entityManager.clear();
+        double before = totalLoads();
+
+        entityLoadMetrics.begin();
+        assertEquals(3, messageRepository.findAll().size());
+        entityLoadMetrics.end("/admin/messages");
+
+        DistributionSummary summary = meterRegistry.get(EntityLoadMetrics.LOADS_PER_REQUEST)
+                .tag("uri", "/admin/messages")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+        assertEquals(3.0, totalLoads() - before);
+    }
+
+    @Test
+    void testLoadsOutsideRequestsOnlyCountTowardsTotal() {
+        entityManager.persist(new Message("Alice", "alice@example.com", "First"));
+        entityManager.flush();
+        entityManager.clear();
+        double before = totalLoads();
+
+        messageRepository.findAll();
+        entityLoadMetrics.end("/admin/messages");
+
+        assertNull(meterRegistry.find(EntityLoadMetrics.LOADS_PER_REQUEST).summary());
+        assertEquals(1.0, totalLoads() - before);
+    }
+}
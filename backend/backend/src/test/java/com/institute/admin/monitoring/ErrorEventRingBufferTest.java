@@ -0,0 +1,87 @@
+package com.institute.admin.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorEventRingBufferTest {
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new ErrorEventRingBuffer(5).capacity());
+        assertEquals(8, new ErrorEventRingBuffer(8).capacity());
+        assertEquals(1, new ErrorEventRingBuffer(1).capacity());
+    }
+
+    @Test
+    void testDrainReturnsEventsInOrder() {
+        ErrorEventRingBuffer buffer = new ErrorEventRingBuffer(4);
+        buffer.offer("first", null, "/a", "low", "1", 1L);
+        buffer.offer("second", "stack", "/b", "high", "1", 2L);
+
+        List<String> messages = new ArrayList<>();
+        assertEquals(2, buffer.drain(event -> messages.add(event.getMessage()), 10));
+
+        assertEquals(List.of("first", "second"), messages);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testFullBufferDropsAndRecoversAfterDrain() {
+        ErrorEventRingBuffer buffer = new ErrorEventRingBuffer(2);
+        assertTrue(buffer.offer("1", null, null, null, null, 0));
+        assertTrue(buffer.offer("2", null, null, null, null, 0));
+        assertFalse(buffer.offer("3", null, null, null, null, 0));
+        assertEquals(1, buffer.getDropped());
+
+        assertEquals(1, buffer.drain(event -> { }, 1));
+        assertTrue(buffer.offer("4", null, null, null, null, 0));
+
+        List<String> messages = new ArrayList<>();
+        buffer.drain(event -> messages.add(event.getMessage()), 10);
+        assertEquals(List.of("2", "4"), messages);
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothingThatWasAccepted() throws Exception {
+        ErrorEventRingBuffer buffer = new ErrorEventRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(producer + ":" + i, null, null, null, null, 0)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        Set<String> seen = new HashSet<>();
+        start.countDown();
+        executor.shutdown();
+        while (!executor.isTerminated() || buffer.size() > 0) {
+            buffer.drain(event -> assertTrue(seen.add(event.getMessage())), 256);
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(accepted.get(), seen.size());
+        assertEquals(producers * perProducer, accepted.get() + buffer.getDropped());
+    }
+}
@@ -0,0 +1,118 @@
+package com.institute.admin.monitoring;
+
+import com.institute.admin.dto.PerformanceReportBatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RealUserMetricsStoreTest {
+
+    private final RealUserMetricsStore store =
+            new RealUserMetricsStore(2, 100, Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC));
+
+    private static PerformanceReportBatch.Report report(String url, Object lcp) {
+        return new PerformanceReportBatch.Report(Map.of("lcp", lcp), url);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> series(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("series");
+    }
+
+    @Test
+    void testPercentilesForOneUrl() {
+        List<PerformanceReportBatch.Report> reports = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            reports.add(report("https://site/courses?page=2", (double) i * 10));
+        }
+        assertEquals(100, store.record(reports));
+
+        List<Map<String, Object>> series = series(store.getPercentiles("/courses", "LCP"));
+
+        assertEquals(1, series.size());
+        Map<String, Object> lcp = series.get(0);
+        assertEquals("/courses", lcp.get("url"));
+        assertEquals(100L, lcp.get("count"));
+        assertEquals(500.0, (Double) lcp.get("p50"), 5.0);
+        assertEquals(950.0, (Double) lcp.get("p95"), 10.0);
+        assertEquals(990.0, (Double) lcp.get("p99"), 10.0);
+    }
+
+    @Test
+    void testMergesUrlsAndWindows() {
+        store.record(List.of(report("/courses/12", 100), report("/courses/13", 200)));
+        store.rotate();
+        store.record(List.of(report("/about", 300)));
+
+        List<Map<String, Object>> perUrl = series(store.getPercentiles("/courses/99", null));
+        assertEquals("/courses/{id}", perUrl.get(0).get("url"));
+        assertEquals(2L, perUrl.get(0).get("count"));
+
+        List<Map<String, Object>> all = series(store.getPercentiles(null, "lcp"));
+        assertEquals(RealUserMetricsStore.ALL_URLS, all.get(0).get("url"));
+        assertEquals(3L, all.get(0).get("count"));
+        assertEquals(300.0, (Double) all.get(0).get("max"), 3.0);
+    }
+
+    @Test
+    void testOldWindowsExpire() {
+        store.record(List.of(report("/", 100)));
+        store.rotate();
+        store.rotate();
+        assertEquals(1L, series(store.getPercentiles("/", "lcp")).get(0).get("count"));
+
+        store.rotate();
+        assertTrue(series(store.getPercentiles("/", "lcp")).isEmpty());
+    }
+
+    @Test
+    void testRejectsNonNumericAndNegativeValues() {
+        int recorded = store.record(List.of(report("/", "fast"), report("/", -1), report("/", 0.05)));
+
+        assertEquals(1, recorded);
+        assertEquals(2L, store.getPercentiles(null, null).get("rejected"));
+    }
+
+    @Test
+    void testRejectsUnknownMetrics() {
+        int recorded = store.record(List.of(new PerformanceReportBatch.Report(Map.of("lcp", 100, "custom_1", 5, "x", 1), "/")));
+
+        assertEquals(1, recorded);
+        assertEquals(2L, store.getPercentiles(null, null).get("rejected"));
+        assertEquals(1, series(store.getPercentiles(null, null)).size());
+    }
+
+    @Test
+    void testUrlsBeyondSeriesLimitShareOverflowSeries() {
+        int maxSeries = RealUserMetricsStore.METRICS.size() + 2;
+        RealUserMetricsStore limited = new RealUserMetricsStore(2, maxSeries, Clock.systemUTC());
+        List<PerformanceReportBatch.Report> reports = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            reports.add(new PerformanceReportBatch.Report(Map.of("lcp", 100, "fcp", 50), "/page-" + i));
+        }
+
+        assertEquals(100, limited.record(reports));
+
+        // The first page takes the two free series, every later page goes to the overflow series
+        assertEquals(2, series(limited.getPercentiles("/page-0", null)).size());
+        assertTrue(series(limited.getPercentiles("/page-1", null)).isEmpty());
+        assertEquals(49L, series(limited.getPercentiles(UrlPaths.OTHER, "lcp")).get(0).get("count"));
+        assertEquals(49L, series(limited.getPercentiles(UrlPaths.OTHER, "fcp")).get(0).get("count"));
+    }
+
+    @Test
+    void testNormalizeUrl() {
+        assertEquals("/", UrlPaths.normalize("https://site/"));
+        assertEquals("/courses/{id}", UrlPaths.normalize("https://site/courses/42/?ref=x#top"));
+        assertEquals("/assets/{id}", UrlPaths.normalize("/assets/3f9a1c2b7d"));
+        assertEquals("/", UrlPaths.normalize(null));
+    }
+}
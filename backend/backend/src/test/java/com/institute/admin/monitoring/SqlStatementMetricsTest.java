@@ -0,0 +1,91 @@
+package com.institute.admin.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementMetricsTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final SqlStatementMetrics metrics = new SqlStatementMetrics(Duration.ofMillis(100), 3, 10, nanoTime::get);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        metrics.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> statements() {
+        return (List<Map<String, Object>>) metrics.getSummary(10).get("statements");
+    }
+
+    // Runs one statement through the listener, taking elapsedMicros on the test clock
+    private void execute(long elapsedMicros, boolean batch, int batchSize, String sql) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setSuccess(true);
+        info.setBatch(batch);
+        info.setBatchSize(batchSize);
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        metrics.beforeQuery(info, queries);
+        nanoTime.addAndGet(TimeUnit.MICROSECONDS.toNanos(elapsedMicros));
+        // The proxy's millisecond timing would round all of these to 0
+        info.setElapsedTime(0);
+        metrics.afterQuery(info, queries);
+    }
+
+    @Test
+    void testFingerprintNormalizesLiteralsAndInLists() {
+        assertEquals("select * from course c1_0 where c1_0.id=? and c1_0.title=?",
+                SqlStatementMetrics.fingerprint("select *\n  from course c1_0 where c1_0.id=42 and c1_0.title='It''s'"));
+        assertEquals("select c.id from course c where c.id in (...) fetch first ? rows only",
+                SqlStatementMetrics.fingerprint("select c.id from course c where c.id in (?, ?,?) fetch first 50 rows only"));
+        assertEquals(SqlStatementMetrics.fingerprint("select id from t where id in (?)"),
+                SqlStatementMetrics.fingerprint("select id from t where id in (?, ?, ?, ?)"));
+    }
+
+    @Test
+    void testAggregatesByFingerprint() {
+        execute(150, false, 0, "select * from student where id=1");
+        execute(450, false, 0, "select * from student where id=2");
+        execute(900, true, 50, "insert into course (title,id) values (?,?)");
+
+        List<Map<String, Object>> statements = statements();
+        assertEquals(2, statements.size());
+        Map<String, Object> insert = statements.get(0);
+        assertEquals("insert into course (title,id) values (?,?)", insert.get("sql"));
+        assertEquals(50L, insert.get("executions"));
+        Map<String, Object> select = statements.get(1);
+        assertEquals("select * from student where id=?", select.get("sql"));
+        assertEquals(2L, select.get("calls"));
+        assertEquals(600L, select.get("totalMicros"));
+        assertEquals(450L, select.get("maxMicros"));
+        assertEquals(300.0, select.get("meanMicros"));
+    }
+
+    @Test
+    void testCountsSlowStatementsAndCapsFingerprints() {
+        execute(250_000, false, 0, "select * from message");
+        execute(99_999, false, 0, "select * from course");
+        for (int i = 0; i < 4; i++) {
+            execute(1, false, 0, "select * from table" + (char) ('a' + i));
+        }
+
+        Map<String, Object> summary = metrics.getSummary(10);
+        assertEquals(1L, summary.get("slowStatements"));
+        assertEquals(4, summary.get("fingerprints"));
+        assertTrue(statements().stream().anyMatch(s -> SqlStatementMetrics.OTHER_STATEMENTS.equals(s.get("sql"))));
+
+        metrics.reset();
+        assertEquals(0, metrics.getSummary(10).get("fingerprints"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.institute.admin.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactRateLimiterTest {
+
+    private static ContactRateLimiter limiter(boolean enabled) {
+        return new ContactRateLimiter(enabled, 10, Duration.ofMinutes(1), 2, 1, Duration.ofMinutes(10), 1);
+    }
+
+    @Test
+    void testLimitsByIp() {
+        ContactRateLimiter limiter = limiter(true);
+
+        assertEquals(0, limiter.acquire("10.0.0.1", "a@example.com"));
+        assertEquals(0, limiter.acquire("10.0.0.1", "b@example.com"));
+        assertTrue(limiter.acquire("10.0.0.1", "c@example.com") > 0);
+        assertEquals(1L, limiter.getStats().get("rejectedByIp"));
+    }
+
+    @Test
+    void testLimitsByEmailAcrossIps() {
+        ContactRateLimiter limiter = limiter(true);
+
+        assertEquals(0, limiter.acquire("10.0.0.1", "Same@Example.com"));
+        assertTrue(limiter.acquire("10.0.0.2", " same@example.com ") > 0);
+        assertEquals(1L, limiter.getStats().get("rejectedByEmail"));
+    }
+
+    @Test
+    void testDisabledAllowsEverything() {
+        ContactRateLimiter limiter = limiter(false);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.acquire("10.0.0.1", "a@example.com"));
+        }
+    }
+}
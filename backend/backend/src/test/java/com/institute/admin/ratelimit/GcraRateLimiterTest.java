@@ -0,0 +1,87 @@
+package com.institute.admin.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcraRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void testBurstThenSustainedRate() {
+        // 60 per minute = one per second, bursts of 3
+        GcraRateLimiter limiter = new GcraRateLimiter(60, Duration.ofMinutes(1), 3, now::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        long wait = limiter.tryAcquire("a");
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+
+        now.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    void testKeysAreIndependent() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1, Duration.ofMinutes(1), 1, now::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void testEvictIdleOnlyRemovesRefilledKeys() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, Duration.ofMinutes(1), 5, now::get);
+        limiter.tryAcquire("quiet");
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(1, limiter.size());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void testConcurrentAcquireGrantsExactlyTheBurst() throws Exception {
+        GcraRateLimiter limiter = new GcraRateLimiter(1, Duration.ofHours(1), 50, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (limiter.tryAcquire("shared") == 0) {
+                    granted.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(50, granted.get());
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new GcraRateLimiter(0, Duration.ofMinutes(1), 1, now::get));
+        assertThrows(IllegalArgumentException.class, () -> new GcraRateLimiter(1, Duration.ZERO, 1, now::get));
+    }
+}
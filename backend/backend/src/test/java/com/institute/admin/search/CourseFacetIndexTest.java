@@ -0,0 +1,159 @@
+package com.institute.admin.search;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.search.CourseFacetIndex.Facet;
+import com.institute.admin.search.CourseFacetIndex.FacetResult;
+import com.institute.admin.services.CourseChangedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourseFacetIndexTest {
+
+    private final CourseRepository courseRepository = mock(CourseRepository.class);
+
+    private CourseFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseFacetIndex(courseRepository);
+        index.index(course(1L, "Beginner", "Programming", 0.0, 4.8));
+        index.index(course(2L, "Advanced", "Programming", 250.0, 4.2));
+        index.index(course(3L, "Beginner", "Design", 80.0, null));
+        index.index(course(4L, "Intermediate", "Programming", 1500.0, 3.5));
+    }
+
+    @Test
+    void testUnfilteredCounts() {
+        FacetResult result = index.query(Map.of(), 0, 10);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.getIds());
+        assertEquals(4, result.getTotal());
+        assertEquals(Map.of("Beginner", 2, "Intermediate", 1, "Advanced", 1), result.getCounts().get("level"));
+        assertEquals(Map.of("free", 1, "under-100", 1, "100-500", 1, "1000-and-up", 1), result.getCounts().get("price"));
+        assertEquals(1, result.getCounts().get("rating").get("unrated"));
+    }
+
+    @Test
+    void testFiltersIntersectAcrossFacets() {
+        Map<Facet, List<String>> filters = new EnumMap<>(Facet.class);
+        filters.put(Facet.LEVEL, List.of("Beginner"));
+        filters.put(Facet.CATEGORY, List.of("Programming"));
+
+        FacetResult result = index.query(filters, 0, 10);
+
+        assertEquals(List.of(1L), result.getIds());
+        // Level counts ignore the level filter itself
+        assertEquals(Map.of("Beginner", 1, "Intermediate", 1, "Advanced", 1), result.getCounts().get("level"));
+        // Category counts ignore the category filter itself
+        assertEquals(Map.of("Programming", 1, "Design", 1), result.getCounts().get("category"));
+    }
+
+    @Test
+    void testValuesWithinFacetAreOred() {
+        Map<Facet, List<String>> filters = new EnumMap<>(Facet.class);
+        filters.put(Facet.LEVEL, List.of("Advanced", "Intermediate"));
+
+        assertEquals(List.of(2L, 4L), index.query(filters, 0, 10).getIds());
+    }
+
+    @Test
+    void testPaging() {
+        FacetResult result = index.query(Map.of(), 1, 2);
+
+        assertEquals(List.of(2L, 3L), result.getIds());
+        assertEquals(4, result.getTotal());
+    }
+
+    @Test
+    void testUpdateMovesCourseBetweenValues() {
+        index.onCourseChanged(CourseChangedEvent.updated(course(3L, "Advanced", "Design", 80.0, null)));
+
+        Map<Facet, List<String>> filters = new EnumMap<>(Facet.class);
+        filters.put(Facet.LEVEL, List.of("Beginner"));
+        assertEquals(List.of(1L), index.query(filters, 0, 10).getIds());
+    }
+
+    @Test
+    void testDeleteRemovesCourse() {
+        index.onCourseChanged(CourseChangedEvent.deleted(3L));
+
+        FacetResult result = index.query(Map.of(), 0, 10);
+        assertEquals(3, result.getTotal());
+        assertFalse(result.getCounts().get("category").containsKey("Design"));
+    }
+
+    @Test
+    void testDeleteDuringRebuildIsNotLost() {
+        List<Long> seenWhileLoading = new ArrayList<>();
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+            // Queries are answered from the previous postings while the new ones load
+            seenWhileLoading.addAll(index.query(Map.of(), 0, 10).getIds());
+            // The page was read before this delete committed
+            index.onCourseChanged(CourseChangedEvent.deleted(2L));
+            return List.of(course(1L, "Beginner", "Programming", 0.0, 4.8),
+                    course(2L, "Advanced", "Programming", 250.0, 4.2),
+                    course(5L, "Advanced", "Design", 50.0, 4.0));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), seenWhileLoading);
+        assertEquals(List.of(1L, 5L), index.query(Map.of(), 0, 10).getIds());
+    }
+
+    @Test
+    void testDeletedOrdinalsAreReclaimed() {
+        int created = 3 * CourseFacetIndex.COMPACTION_MIN_DEAD;
+        for (long id = 5; id < 5 + created; id++) {
+            index.index(course(id, "Beginner", "Design", 10.0, 4.0));
+        }
+        for (long id = 5; id < 5 + created; id++) {
+            if (id % 10 != 0) {
+                index.remove(id);
+            }
+        }
+
+        // Live ordinals are renumbered once the dead ones dominate
+        assertTrue(index.ordinalCount() < created / 2);
+        index.index(course(100_000L, "Advanced", "Design", 10.0, 4.0));
+
+        Map<Facet, List<String>> filters = new EnumMap<>(Facet.class);
+        filters.put(Facet.LEVEL, List.of("Beginner"));
+        FacetResult result = index.query(filters, 0, 4);
+        assertEquals(List.of(1L, 3L, 10L, 20L), result.getIds());
+        assertEquals(2 + created / 10, result.getTotal());
+        assertEquals(List.of(100_000L), index.query(Map.of(Facet.LEVEL, List.of("Advanced")), 1, 10).getIds());
+    }
+
+    @Test
+    void testBands() {
+        assertNull(CourseFacetIndex.priceBand(null));
+        assertEquals("500-1000", CourseFacetIndex.priceBand(999.0));
+        assertEquals("4.0-4.5", CourseFacetIndex.ratingBand(4.0));
+        assertEquals("below-3.0", CourseFacetIndex.ratingBand(2.9));
+    }
+
+    private static Course course(Long id, String level, String category, Double price, Double rating) {
+        Course course = new Course("Course " + id, "Description");
+        course.setId(id);
+        course.setLevel(level);
+        course.setCategory(category);
+        course.setPrice(price);
+        course.setRating(rating);
+        return course;
+    }
+}
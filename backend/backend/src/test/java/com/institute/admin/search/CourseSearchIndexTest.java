@@ -0,0 +1,105 @@
+package com.institute.admin.search;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.services.CourseChangedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSearchIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseSearchIndex(courseRepository);
+        index.index(course(1L, "Java Programming", "Learn Java fundamentals", "Programming"));
+        index.index(course(2L, "Spring Boot", "Build REST services with Java and Spring", "Programming"));
+        index.index(course(3L, "Watercolor Basics", "Painting for beginners", "Art"));
+    }
+
+    @Test
+    void testNameMatchesRankAboveDescriptionMatches() {
+        List<Long> result = index.search("java", 10);
+
+        assertEquals(List.of(1L, 2L), result);
+    }
+
+    @Test
+    void testMultiTermQuery() {
+        List<Long> result = index.search("spring java", 10);
+
+        assertEquals(2L, result.get(0));
+    }
+
+    @Test
+    void testPrefixMatchOnLastTerm() {
+        assertEquals(List.of(3L), index.search("waterc", 10));
+    }
+
+    @Test
+    void testLimit() {
+        assertEquals(1, index.search("programming", 1).size());
+    }
+
+    @Test
+    void testBlankAndStopWordQueries() {
+        assertTrue(index.search("   ", 10).isEmpty());
+        assertTrue(index.search("the and", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+
+    @Test
+    void testUpdateReplacesPostings() {
+        index.onCourseChanged(CourseChangedEvent.updated(course(3L, "Oil Painting", "Painting for beginners", "Art")));
+
+        assertTrue(index.search("watercolor", 10).isEmpty());
+        assertEquals(List.of(3L), index.search("oil", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testDeleteRemovesCourse() {
+        index.onCourseChanged(CourseChangedEvent.deleted(1L));
+
+        assertEquals(List.of(2L), index.search("java", 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testRebuildLoadsCatalogInPages() {
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(500)))
+                .thenReturn(List.of(course(7L, "Data Science", "Statistics and Python", "Data")));
+
+        index.rebuild();
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(7L), index.search("python", 10));
+    }
+
+    @Test
+    void testTokenize() {
+        assertEquals(List.of("c", "programming", "101"), CourseSearchIndex.tokenize("C-Programming, 101!"));
+    }
+
+    private static Course course(Long id, String name, String description, String category) {
+        Course course = new Course(name, description);
+        course.setId(id);
+        course.setCategory(category);
+        return course;
+    }
+}
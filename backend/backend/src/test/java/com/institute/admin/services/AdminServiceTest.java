@@ -1,22 +1,40 @@
 package com.institute.admin.services;
 
+import com.institute.admin.cache.CatalogVersion;
+import com.institute.admin.cache.CourseCatalogCache;
+import com.institute.admin.dto.CourseBatchResult;
+import com.institute.admin.dto.CourseSummary;
+import com.institute.admin.dto.CursorPage;
+import com.institute.admin.dto.FacetedCourseResult;
+import com.institute.admin.dto.FieldSelection;
 import com.institute.admin.model.Course;
 import com.institute.admin.model.Student;
 import com.institute.admin.model.Message;
 import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.repository.FieldSelectionRepository;
 import com.institute.admin.repository.StudentRepository;
 import com.institute.admin.repository.MessageRepository;
+import com.institute.admin.search.CourseFacetIndex;
+import com.institute.admin.search.CourseSearchIndex;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +53,24 @@ class AdminServiceTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private FieldSelectionRepository fieldSelectionRepository;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private CourseFacetIndex courseFacetIndex;
+
+    @Spy
+    private CourseCatalogCache courseCatalogCache = new CourseCatalogCache(100, Duration.ofMinutes(10));
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -68,6 +104,115 @@ class AdminServiceTest {
         verify(courseRepository).findAll();
     }
 
+    @Test
+    void testGetCourseSummaries_CachedUntilCourseChanges() {
+        CourseSummary summary = new CourseSummary(1L, "Java Programming", "Beginner", "Backend", 99.0, 4.5);
+        when(courseRepository.findAllSummaries()).thenReturn(List.of(summary));
+
+        adminService.getCourseSummaries();
+        List<CourseSummary> result = adminService.getCourseSummaries();
+
+        assertEquals(List.of(summary), result);
+        verify(courseRepository, times(1)).findAllSummaries();
+        verify(courseRepository, never()).findAll();
+
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        adminService.deleteCourse(1L);
+        adminService.getCourseSummaries();
+
+        verify(courseRepository, times(2)).findAllSummaries();
+    }
+
+    @Test
+    void testGetSparsePage() {
+        FieldSelection selection = FieldSelection.parse("name");
+        Map<String, Object> first = Map.of("id", 1L, "name", "Java Programming");
+        Map<String, Object> second = Map.of("id", 2L, "name", "Spring Boot");
+        when(fieldSelectionRepository.findByIdGreaterThan(Course.class, selection, 0L, 2)).thenReturn(List.of(first, second));
+
+        CursorPage<Map<String, Object>> page = adminService.getSparsePage(Course.class, selection, null, 1);
+
+        assertEquals(List.of(first), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(1L, CursorPage.decodeCursor(page.getNextCursor()));
+        verify(courseRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    @Test
+    void testGetCourseSummaryPage() {
+        CourseSummary first = new CourseSummary(1L, "Java Programming", "Beginner", "Backend", 99.0, 4.5);
+        CourseSummary second = new CourseSummary(2L, "Spring Boot", "Intermediate", "Backend", 149.0, 4.8);
+        when(courseRepository.findSummariesByIdGreaterThan(0L, Limit.of(2))).thenReturn(List.of(first, second));
+
+        CursorPage<CourseSummary> page = adminService.getCourseSummaryPage(null, 1);
+
+        assertEquals(List.of(first), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(1L, CursorPage.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetCourseCount() {
+        when(courseRepository.count()).thenReturn(42L);
+
+        assertEquals(42L, adminService.getCourseCount());
+        verify(courseRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetCoursePage_FirstPage() {
+        Course second = new Course("Spring Boot", "Learn Spring Boot");
+        second.setId(2L);
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testCourse, second));
+
+        CursorPage<Course> page = adminService.getCoursePage(null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(testCourse, page.getItems().get(0));
+        assertTrue(page.isHasMore());
+        assertEquals(1L, CursorPage.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetCoursePage_LastPage() {
+        String cursor = CursorPage.encodeCursor(1L);
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(AdminService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        CursorPage<Course> page = adminService.getCoursePage(cursor, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetCoursePage_LimitIsCapped() {
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(AdminService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of(testCourse));
+
+        adminService.getCoursePage(null, 100_000);
+
+        verify(courseRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(AdminService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testGetCoursePage_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            adminService.getCoursePage("not-a-cursor", 10);
+        });
+
+        verify(courseRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any());
+    }
+
+    @Test
+    void testGetCoursePage_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            adminService.getCoursePage(null, 0);
+        });
+    }
+
     @Test
     void testGetCourseById_Found() {
         when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
@@ -79,6 +224,43 @@ class AdminServiceTest {
         verify(courseRepository).findById(1L);
     }
 
+    @Test
+    void testGetAllCourses_ServedFromCache() {
+        when(courseRepository.findAll()).thenReturn(List.of(testCourse));
+
+        adminService.getAllCourses();
+        List<Course> result = adminService.getAllCourses();
+
+        assertEquals(List.of(testCourse), result);
+        verify(courseRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testGetCourseById_ServedFromCache() {
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+
+        adminService.getCourseById(1L);
+        Optional<Course> result = adminService.getCourseById(1L);
+
+        assertEquals(Optional.of(testCourse), result);
+        verify(courseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testCourseWritesInvalidateCache() {
+        when(courseRepository.findAll()).thenReturn(List.of(testCourse));
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(courseRepository.save(any(Course.class))).thenReturn(testCourse);
+        adminService.getAllCourses();
+        adminService.getCourseById(1L);
+
+        adminService.updateCourse(1L, new Course("Updated Name", null));
+        adminService.getAllCourses();
+
+        verify(courseRepository, times(2)).findAll();
+        verify(courseCatalogCache).invalidate(1L);
+    }
+
     @Test
     void testGetCourseById_NotFound() {
         when(courseRepository.findById(1L)).thenReturn(Optional.empty());
@@ -98,6 +280,25 @@ class AdminServiceTest {
 
         assertEquals(testCourse, result);
         verify(courseRepository).save(newCourse);
+
+        ArgumentCaptor<CourseChangedEvent> event = ArgumentCaptor.forClass(CourseChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(CourseChangedEvent.Type.CREATED, event.getValue().getType());
+        assertEquals(testCourse, event.getValue().getCourse());
+    }
+
+    @Test
+    void testCourseWritesBumpCatalogVersion() {
+        when(courseRepository.save(any(Course.class))).thenReturn(testCourse);
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        String initialETag = adminService.getCatalogETag();
+
+        adminService.addCourse(new Course("Spring Boot", "Learn Spring Boot"));
+        adminService.deleteCourse(1L);
+
+        assertEquals(2, catalogVersion.current());
+        assertNotEquals(initialETag, adminService.getCatalogETag());
+        assertNotEquals(adminService.getCatalogETag(), adminService.getCourseETag(1L));
     }
 
     @Test
@@ -109,6 +310,8 @@ class AdminServiceTest {
         });
 
         verify(courseRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertEquals(0, catalogVersion.current());
     }
 
     @Test
@@ -132,6 +335,7 @@ class AdminServiceTest {
         assertEquals(testCourse, result);
         verify(courseRepository).findById(1L);
         verify(courseRepository).save(testCourse);
+        verify(eventPublisher).publishEvent(any(CourseChangedEvent.class));
     }
 
     @Test
@@ -155,6 +359,11 @@ class AdminServiceTest {
 
         verify(courseRepository).existsById(1L);
         verify(courseRepository).deleteById(1L);
+
+        ArgumentCaptor<CourseChangedEvent> event = ArgumentCaptor.forClass(CourseChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(CourseChangedEvent.Type.DELETED, event.getValue().getType());
+        assertEquals(1L, event.getValue().getCourseId());
     }
 
     @Test
@@ -169,6 +378,88 @@ class AdminServiceTest {
         verify(courseRepository, never()).deleteById(anyLong());
     }
 
+    @Test
+    void testGetCoursesByIds_KeepsRequestOrderAndReportsMissing() {
+        Course second = new Course("Spring Boot", "Learn Spring Boot");
+        second.setId(2L);
+        when(courseRepository.findAllById(Set.of(2L, 9L, 1L))).thenReturn(List.of(testCourse, second));
+
+        CourseBatchResult result = adminService.getCoursesByIds(List.of(2L, 9L, 1L, 2L));
+
+        assertEquals(List.of(second, testCourse), result.getCourses());
+        assertEquals(List.of(9L), result.getMissingIds());
+    }
+
+    @Test
+    void testGetCoursesByIds_LoadsOnlyCacheMisses() {
+        Course second = new Course("Spring Boot", "Learn Spring Boot");
+        second.setId(2L);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(courseRepository.findAllById(Set.of(2L))).thenReturn(List.of(second));
+        adminService.getCourseById(1L);
+
+        CourseBatchResult first = adminService.getCoursesByIds(List.of(1L, 2L));
+        CourseBatchResult again = adminService.getCoursesByIds(List.of(2L, 1L));
+
+        assertEquals(List.of(testCourse, second), first.getCourses());
+        assertEquals(List.of(second, testCourse), again.getCourses());
+        verify(courseRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void testSearchCourses_KeepsRankOrder() {
+        Course second = new Course("Spring Boot", "Learn Spring Boot");
+        second.setId(2L);
+        when(courseSearchIndex.search("spring", AdminService.DEFAULT_SEARCH_RESULTS)).thenReturn(List.of(2L, 1L));
+        when(courseRepository.findAllById(Set.of(2L, 1L))).thenReturn(List.of(testCourse, second));
+
+        List<Course> result = adminService.searchCourses("spring", null);
+
+        assertEquals(List.of(second, testCourse), result);
+    }
+
+    @Test
+    void testSearchCourses_NoHits() {
+        when(courseSearchIndex.search("cobol", 5)).thenReturn(List.of());
+
+        List<Course> result = adminService.searchCourses("cobol", 5);
+
+        assertTrue(result.isEmpty());
+        verify(courseRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testGetFacetedCourses() {
+        Map<CourseFacetIndex.Facet, List<String>> filters = new EnumMap<>(CourseFacetIndex.Facet.class);
+        filters.put(CourseFacetIndex.Facet.LEVEL, List.of("Beginner"));
+        Map<String, Map<String, Integer>> counts = Map.of("level", Map.of("Beginner", 1));
+        when(courseFacetIndex.query(filters, 20, 10))
+                .thenReturn(new CourseFacetIndex.FacetResult(List.of(1L), 21, counts));
+        when(courseRepository.findAllById(Set.of(1L))).thenReturn(List.of(testCourse));
+
+        FacetedCourseResult result = adminService.getFacetedCourses(filters, 2, 10);
+
+        assertEquals(List.of(testCourse), result.getCourses());
+        assertEquals(21, result.getTotal());
+        assertEquals(2, result.getPage());
+        assertEquals(counts, result.getFacets());
+    }
+
+    @Test
+    void testGetFacetedCourses_NegativePage() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            adminService.getFacetedCourses(Map.of(), -1, 10);
+        });
+    }
+
+    @Test
+    void testGetFacetedCourses_PageOffsetOverflow() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            adminService.getFacetedCourses(Map.of(), Integer.MAX_VALUE, 10);
+        });
+        verifyNoInteractions(courseFacetIndex);
+    }
+
     // ================ Student Retrieval Tests ================
 
     @Test
@@ -183,6 +474,17 @@ class AdminServiceTest {
         verify(studentRepository).findAll();
     }
 
+    @Test
+    void testGetStudentPage() {
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11)))
+                .thenReturn(List.of(testStudent));
+
+        CursorPage<Student> page = adminService.getStudentPage(null, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+    }
+
     @Test
     void testGetStudentById_Found() {
         when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
@@ -218,6 +520,18 @@ class AdminServiceTest {
         verify(messageRepository).findAll();
     }
 
+    @Test
+    void testGetMessagePage() {
+        String cursor = CursorPage.encodeCursor(5L);
+        when(messageRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(List.of(testMessage));
+
+        CursorPage<Message> page = adminService.getMessagePage(cursor, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+    }
+
     @Test
     void testGetMessageById_Found() {
         when(messageRepository.findById(1L)).thenReturn(Optional.of(testMessage));
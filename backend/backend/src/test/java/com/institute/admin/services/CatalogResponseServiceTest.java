@@ -0,0 +1,131 @@
+package com.institute.admin.services;
+
+import com.institute.admin.cache.CatalogVersion;
+import com.institute.admin.dto.CourseSummary;
+import com.institute.admin.dto.CourseView;
+import com.institute.admin.model.Course;
+import com.institute.admin.services.CatalogResponseService.CatalogResponse;
+import com.institute.admin.services.CatalogResponseService.ContentCoding;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogResponseServiceTest {
+
+    private static final EnumSet<ContentCoding> ALL_CODINGS = EnumSet.allOf(ContentCoding.class);
+
+    @Mock
+    private AdminService adminService;
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    private CatalogResponseService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CatalogResponseService(adminService, catalogVersion, new ObjectMapper(), 9, 9);
+
+        Course course = new Course("Java Programming", "Learn Java fundamentals");
+        course.setId(1L);
+        lenient().when(adminService.getAllCourses()).thenReturn(List.of(course));
+        lenient().when(adminService.getCourseSummaries())
+                .thenReturn(List.of(new CourseSummary(1L, "Java Programming", "Beginner", "Backend", 99.0, 4.5)));
+    }
+
+    // ================ Encoding Tests ================
+
+    @Test
+    void testEncodingsDecodeToSameJson() throws IOException {
+        CatalogResponse identity = service.getCatalog(CourseView.FULL, null);
+        CatalogResponse gzip = service.getCatalog(CourseView.FULL, "gzip");
+        CatalogResponse brotli = service.getCatalog(CourseView.FULL, "gzip, br");
+
+        assertNull(identity.getContentEncoding());
+        assertTrue(new String(identity.getBody()).contains("\"name\":\"Java Programming\""));
+        assertEquals("gzip", gzip.getContentEncoding());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+            assertArrayEquals(identity.getBody(), in.readAllBytes());
+        }
+        assertEquals("br", brotli.getContentEncoding());
+        assertArrayEquals(identity.getBody(), Decoder.decompress(brotli.getBody()).getDecompressedData());
+    }
+
+    @Test
+    void testEachEncodingHasItsOwnETag() {
+        String identity = service.getCatalog(CourseView.FULL, null).getETag();
+        String gzip = service.getCatalog(CourseView.FULL, "gzip").getETag();
+        String summary = service.getCatalog(CourseView.SUMMARY, "gzip").getETag();
+
+        assertNotEquals(identity, gzip);
+        assertNotEquals(gzip, summary);
+        assertTrue(gzip.endsWith("-0-full-gzip\""));
+    }
+
+    // ================ Snapshot Tests ================
+
+    @Test
+    void testSerializesOncePerCatalogVersion() {
+        service.getCatalog(CourseView.FULL, "gzip");
+        service.getCatalog(CourseView.FULL, "br");
+        service.getCatalog(CourseView.FULL, null);
+
+        verify(adminService, times(1)).getAllCourses();
+        verify(adminService, never()).getCourseSummaries();
+
+        catalogVersion.increment();
+        CatalogResponse rebuilt = service.getCatalog(CourseView.FULL, null);
+
+        verify(adminService, times(2)).getAllCourses();
+        assertTrue(rebuilt.getETag().endsWith("-1-full-identity\""));
+    }
+
+    @Test
+    void testSummaryViewSerializesSummaries() {
+        String json = new String(service.getCatalog(CourseView.SUMMARY, null).getBody());
+
+        assertTrue(json.contains("\"rating\":4.5"));
+        assertFalse(json.contains("description"));
+        verify(adminService, never()).getAllCourses();
+    }
+
+    // ================ Negotiation Tests ================
+
+    @Test
+    void testNegotiatePrefersBrotliThenGzip() {
+        assertEquals(ContentCoding.BROTLI, CatalogResponseService.negotiate("gzip, deflate, br", ALL_CODINGS));
+        assertEquals(ContentCoding.GZIP, CatalogResponseService.negotiate("gzip, deflate", ALL_CODINGS));
+        assertEquals(ContentCoding.GZIP, CatalogResponseService.negotiate("br, gzip", EnumSet.of(ContentCoding.GZIP, ContentCoding.IDENTITY)));
+        assertEquals(ContentCoding.BROTLI, CatalogResponseService.negotiate("*", ALL_CODINGS));
+    }
+
+    @Test
+    void testNegotiateHonorsQValues() {
+        assertEquals(ContentCoding.GZIP, CatalogResponseService.negotiate("br;q=0.5, gzip;q=0.8", ALL_CODINGS));
+        assertEquals(ContentCoding.GZIP, CatalogResponseService.negotiate("br;q=0, gzip", ALL_CODINGS));
+        assertEquals(ContentCoding.IDENTITY, CatalogResponseService.negotiate("gzip;q=0", ALL_CODINGS));
+        assertEquals(ContentCoding.GZIP, CatalogResponseService.negotiate("gzip;q=0.1, *;q=0", ALL_CODINGS));
+    }
+
+    @Test
+    void testNegotiateFallsBackToIdentity() {
+        assertEquals(ContentCoding.IDENTITY, CatalogResponseService.negotiate(null, ALL_CODINGS));
+        assertEquals(ContentCoding.IDENTITY, CatalogResponseService.negotiate("deflate", ALL_CODINGS));
+        assertEquals(ContentCoding.IDENTITY, CatalogResponseService.negotiate("br", EnumSet.of(ContentCoding.GZIP, ContentCoding.IDENTITY)));
+        assertEquals(ContentCoding.IDENTITY, CatalogResponseService.negotiate("identity;q=0, *;q=0", ALL_CODINGS));
+    }
+}
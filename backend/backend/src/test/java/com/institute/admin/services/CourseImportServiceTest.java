@@ -0,0 +1,165 @@
+package com.institute.admin.services;
+
+import com.institute.admin.cache.CatalogVersion;
+import com.institute.admin.cache.CourseCatalogCache;
+import com.institute.admin.dto.CourseImportResult;
+import com.institute.admin.model.Course;
+import com.institute.admin.repository.CourseRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureJson
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CourseImportService.class, CourseCatalogCache.class, CatalogVersion.class})
+@TestPropertySource(properties = "institute.import.chunk-size=2")
+@RecordApplicationEvents
+class CourseImportServiceTest {
+
+    @Autowired
+    private CourseImportService courseImportService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteAll();
+    }
+
+    @Test
+    void testImportCoursesInChunks() {
+        long versionBefore = catalogVersion.current();
+        List<Course> courses = Arrays.asList(
+                new Course("One", "First"),
+                new Course("Two", "Second"),
+                new Course("Three", "Third"));
+
+        CourseImportResult result = courseImportService.importCourses(courses);
+
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(3, courseRepository.count());
+        assertEquals(3, events.stream(CourseChangedEvent.class).count());
+        // One version bump per chunk
+        assertEquals(versionBefore + 2, catalogVersion.current());
+    }
+
+    @Test
+    void testImportReportsInvalidRows() {
+        Course negativePrice = new Course("Priced", "Bad price");
+        negativePrice.setPrice(-1.0);
+        List<Course> courses = Arrays.asList(new Course("Valid", "Ok"), new Course(" ", "No name"), null, negativePrice);
+
+        CourseImportResult result = courseImportService.importCourses(courses);
+
+        assertEquals(4, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(2, 3, 4), result.getErrors().stream().map(CourseImportResult.RowError::getRow).toList());
+        assertEquals("Price cannot be negative", result.getErrors().get(2).getMessage());
+        assertEquals(1, courseRepository.count());
+    }
+
+    @Test
+    void testImportIgnoresInputIds() {
+        Course course = new Course("With id", "Id should be assigned");
+        course.setId(12345L);
+
+        courseImportService.importCourses(List.of(course));
+
+        assertTrue(courseRepository.findById(12345L).isEmpty());
+        assertEquals(1, courseRepository.count());
+    }
+
+    @Test
+    void testImportJsonReportsElementsThatDoNotConvert() throws Exception {
+        String json = "[{\"name\":\"Java\",\"price\":99.5},"
+                + "{\"name\":\"Broken\",\"price\":\"abc\"},"
+                + "null,"
+                + "42,"
+                + "{\"name\":\"Rated\",\"rating\":{\"stars\":5}},"
+                + "{\"name\":\"Spring\"}]";
+
+        CourseImportResult result = courseImportService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(6, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2, 3, 4, 5), result.getErrors().stream().map(CourseImportResult.RowError::getRow).toList());
+        assertEquals("Invalid price: abc", result.getErrors().get(0).getMessage());
+        assertEquals("Row is empty", result.getErrors().get(1).getMessage());
+        assertEquals("Row is not a course object", result.getErrors().get(2).getMessage());
+        assertEquals("Invalid rating", result.getErrors().get(3).getMessage());
+        assertEquals(2, courseRepository.count());
+    }
+
+    @Test
+    void testImportJsonRejectsNonArrayInput() {
+        assertThrows(IllegalArgumentException.class, () -> courseImportService.importJson(
+                new ByteArrayInputStream("{\"name\":\"Java\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+        String csv = "Name,Description,Price,Rating,StudentsEnrolled\r\n"
+                + "\"Java, Advanced\",\"Multi\nline \"\"quoted\"\"\",99.5,4.5,10\r\n"
+                + "Broken,Bad number,abc,,\r\n"
+                + "\r\n"
+                + "Short row\n";
+
+        CourseImportResult result = courseImportService.importCsv(new StringReader(csv));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals("Invalid price: abc", result.getErrors().get(0).getMessage());
+        assertEquals(3, result.getErrors().get(1).getRow());
+        Course imported = courseRepository.findAll().get(0);
+        assertEquals("Java, Advanced", imported.getName());
+        assertEquals("Multi\nline \"quoted\"", imported.getDescription());
+        assertEquals(99.5, imported.getPrice());
+        assertEquals(10, imported.getStudentsEnrolled());
+    }
+
+    @Test
+    void testImportCsvRejectsUnknownColumn() {
+        assertThrows(IllegalArgumentException.class,
+                () -> courseImportService.importCsv(new StringReader("name,colour\nA,red\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> courseImportService.importCsv(new StringReader("")));
+    }
+
+    @Test
+    void testReadCsvRecord() throws Exception {
+        BufferedReader in = new BufferedReader(new StringReader("a,,\"b,c\"\r\n\nlast"));
+
+        assertEquals(List.of("a", "", "b,c"), CourseImportService.readCsvRecord(in));
+        assertEquals(List.of("last"), CourseImportService.readCsvRecord(in));
+        assertNull(CourseImportService.readCsvRecord(in));
+    }
+}
@@ -0,0 +1,82 @@
+package com.institute.admin.services;
+
+import com.institute.admin.model.Message;
+import com.institute.admin.model.Student;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureJson
+@Import(DataExportService.class)
+class DataExportServiceTest {
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testExportMessagesAsNdjson() throws Exception {
+        entityManager.persist(new Message("Alice", "alice@example.com", "First"));
+        entityManager.persist(new Message("Bob", "bob@example.com", "Second"));
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = dataExportService.exportMessages(out, DataExportService.Format.NDJSON);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Alice", first.get("senderName").asText());
+        assertEquals("Second", objectMapper.readTree(lines[1]).get("content").asText());
+    }
+
+    @Test
+    void testExportStudentsAsCsv() throws Exception {
+        entityManager.persist(new Student("Doe, Jane", "jane@example.com"));
+        entityManager.persist(new Student("Quote \"Q\"", "q@example.com"));
+        entityManager.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = dataExportService.exportStudents(out, DataExportService.Format.CSV);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, count);
+        assertEquals("id,name,email", lines[0]);
+        assertTrue(lines[1].endsWith(",\"Doe, Jane\",jane@example.com"));
+        assertTrue(lines[2].endsWith(",\"Quote \"\"Q\"\"\",q@example.com"));
+    }
+
+    @Test
+    void testExportDetachesRows() throws Exception {
+        Message message = entityManager.persistAndFlush(new Message("Alice", "alice@example.com", "Hello"));
+
+        dataExportService.exportMessages(new ByteArrayOutputStream(), DataExportService.Format.NDJSON);
+
+        assertFalse(entityManager.getEntityManager().contains(message));
+    }
+
+    @Test
+    void testFormatFromParameter() {
+        assertEquals(DataExportService.Format.CSV, DataExportService.Format.fromParameter(" CSV "));
+        assertThrows(IllegalArgumentException.class, () -> DataExportService.Format.fromParameter("xml"));
+    }
+}
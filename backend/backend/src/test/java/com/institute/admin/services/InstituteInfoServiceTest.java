@@ -0,0 +1,69 @@
+package com.institute.admin.services;
+
+import com.institute.admin.cache.CatalogVersion;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstituteInfoServiceTest {
+
+    @Mock
+    private AdminService adminService;
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private InstituteInfoService instituteInfoService;
+
+    @BeforeEach
+    void setUp() {
+        instituteInfoService = new InstituteInfoService(adminService, catalogVersion, objectMapper);
+    }
+
+    @Test
+    void testDocumentContainsCourseCount() throws Exception {
+        when(adminService.getCourseCount()).thenReturn(7L);
+
+        JsonNode info = objectMapper.readTree(instituteInfoService.getInstituteInfoJson());
+
+        assertEquals("Excellence Institute", info.get("name").asText());
+        assertEquals("info@excellenceinstitute.com", info.get("contactInfo").get("email").asText());
+        assertEquals(7, info.get("statistics").get("totalCourses").asInt());
+        verify(adminService, never()).getAllCourses();
+    }
+
+    @Test
+    void testSnapshotIsReusedUntilCatalogChanges() {
+        when(adminService.getCourseCount()).thenReturn(7L, 8L);
+
+        byte[] first = instituteInfoService.getInstituteInfoJson();
+        byte[] second = instituteInfoService.getInstituteInfoJson();
+        catalogVersion.increment();
+        byte[] third = instituteInfoService.getInstituteInfoJson();
+
+        assertSame(first, second);
+        assertNotSame(second, third);
+        verify(adminService, times(2)).getCourseCount();
+    }
+
+    @Test
+    void testScheduledRefreshRebuilds() {
+        when(adminService.getCourseCount()).thenReturn(7L);
+
+        byte[] first = instituteInfoService.getInstituteInfoJson();
+        instituteInfoService.refresh();
+
+        assertNotSame(first, instituteInfoService.getInstituteInfoJson());
+        verify(adminService, times(2)).getCourseCount();
+    }
+}
@@ -0,0 +1,87 @@
+package com.institute.admin.storage;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.repository.CourseRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("persistent")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StorageMaintenance.class)
+class StorageMaintenanceTest {
+
+    @TempDir
+    static Path storageDirectory;
+
+    @DynamicPropertySource
+    static void storage(DynamicPropertyRegistry registry) {
+        registry.add("institute.storage.path", () -> storageDirectory.resolve("institute").toString());
+    }
+
+    @Autowired
+    private StorageMaintenance storageMaintenance;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    // ================ Schema Tests ================
+
+    @Test
+    void testSchemaScriptMatchesEntities() {
+        // The context only starts if Hibernate validated the scripted schema against the entities
+        Course saved = courseRepository.saveAndFlush(new Course("Persistent Course", "Stored on disk"));
+
+        assertNotNull(saved.getId());
+        assertTrue(courseRepository.findById(saved.getId()).isPresent());
+    }
+
+    // ================ Startup Measurement Tests ================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStartupTimesPrimaryKeyLookup() {
+        courseRepository.saveAndFlush(new Course("Persistent Course", "Stored on disk"));
+
+        storageMaintenance.onApplicationStarted(new ApplicationStartedEvent(
+                new SpringApplication(), new String[0], null, Duration.ofMillis(1500)));
+
+        Map<String, Object> startup = (Map<String, Object>) storageMaintenance.getStats().get("startup");
+        assertEquals(1500L, startup.get("startupMillis"));
+        Map<String, Object> course = (Map<String, Object>) ((Map<String, Object>) startup.get("coldQueries")).get("course");
+        assertEquals(courseRepository.count(), course.get("rows"));
+        assertTrue(course.containsKey("lookupByIdMillis"));
+        assertTrue(course.containsKey("pageOf50Millis"));
+    }
+
+    // ================ Compaction Tests ================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompactReportsFileSizes() {
+        storageMaintenance.compact();
+
+        Map<String, Object> stats = storageMaintenance.getStats();
+        assertTrue(stats.get("file").toString().endsWith("institute.mv.db"));
+        assertTrue((Long) stats.get("fileBytes") > 0);
+        Map<String, Object> compaction = (Map<String, Object>) stats.get("lastCompaction");
+        assertTrue((Long) compaction.get("bytesBefore") > 0);
+        assertTrue(compaction.containsKey("bytesAfter"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.institute.config;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.model.Student;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.repository.StudentRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Each repository call commits on its own, as in production, so cache puts and invalidations happen
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheConfig.class)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteAllInBatch();
+    }
+
+    // ================ Entity Cache Tests ================
+
+    @Test
+    void testRepeatedFindByIdDoesNotReachJdbc() {
+        Course saved = courseRepository.save(new Course("Cached Course", "Read from the second-level cache"));
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Cached Course", courseRepository.findById(saved.getId()).orElseThrow().getName());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getCacheRegionStatistics(SecondLevelCacheConfig.COURSE_REGION).getHitCount());
+    }
+
+    @Test
+    void testUpdateIsVisibleThroughCache() {
+        Course saved = courseRepository.save(new Course("Before", "Original"));
+        courseRepository.findById(saved.getId());
+
+        Course changed = courseRepository.findById(saved.getId()).orElseThrow();
+        changed.setName("After");
+        courseRepository.save(changed);
+        statistics.clear();
+
+        assertEquals("After", courseRepository.findById(saved.getId()).orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testStudentsAreNotCachedByDefault() {
+        Student saved = studentRepository.save(new Student("Uncached Student", "uncached@example.com"));
+        try {
+            statistics.clear();
+            studentRepository.findById(saved.getId());
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertFalse(List.of(statistics.getSecondLevelCacheRegionNames()).contains(SecondLevelCacheConfig.STUDENT_REGION));
+        } finally {
+            studentRepository.deleteById(saved.getId());
+        }
+    }
+
+    // ================ Query Cache Tests ================
+
+    @Test
+    void testCatalogQueryIsCachedUntilCourseChanges() {
+        courseRepository.save(new Course("First", "First course"));
+        courseRepository.findAll();
+        statistics.clear();
+
+        assertEquals(1, courseRepository.findAll().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        courseRepository.save(new Course("Second", "Second course"));
+        assertEquals(2, courseRepository.findAll().size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.institute.config;
+
+import com.institute.admin.model.Course;
+import com.institute.admin.model.Student;
+import com.institute.admin.repository.CourseRepository;
+import com.institute.admin.repository.MessageRepository;
+import com.institute.admin.repository.StudentRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("synthetic")
+@Import(SyntheticDataGenerator.class)
+@TestPropertySource(properties = {
+        "institute.synthetic.students=2500",
+        "institute.synthetic.messages=700",
+        "institute.synthetic.courses=300",
+        "institute.synthetic.workers=3",
+        "institute.synthetic.chunk-size=400",
+        "institute.synthetic.course.level-weights=1,0,0"
+})
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The generator also runs once at context startup, as a CommandLineRunner
+    @BeforeEach
+    @AfterEach
+    void clearTables() {
+        studentRepository.deleteAllInBatch();
+        messageRepository.deleteAllInBatch();
+        courseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testGeneratesConfiguredVolumes() throws Exception {
+        assertEquals(Map.of("student", 2500, "message", 700, "course", 300), generator.generate());
+
+        assertEquals(2500, studentRepository.count());
+        assertEquals(700, messageRepository.count());
+        assertEquals(300, courseRepository.count());
+        assertEquals(List.of("Beginner"),
+                jdbcTemplate.queryForList("select distinct level from course", String.class));
+        Integer longest = jdbcTemplate.queryForObject("select max(length(content)) from message", Integer.class);
+        assertTrue(longest != null && longest <= 2000);
+    }
+
+    @Test
+    void testSameSeedProducesSameRows() throws Exception {
+        generator.generate();
+        List<Map<String, Object>> first = jdbcTemplate.queryForList("select * from student order by id");
+        clearTables();
+
+        generator.generate();
+        assertEquals(first, jdbcTemplate.queryForList("select * from student order by id"));
+    }
+
+    @Test
+    void testSkipsTablesWithRowsAndKeepsSequencesAhead() throws Exception {
+        studentRepository.save(new Student("Existing", "existing@example.com"));
+
+        Map<String, Integer> inserted = generator.generate();
+        assertEquals(0, inserted.get("student"));
+        assertEquals(1, studentRepository.count());
+
+        // Ids saved through JPA must not collide with generated ones
+        long maxGenerated = courseRepository.findAll().stream().mapToLong(Course::getId).max().orElseThrow();
+        Course course = new Course("New", "Saved after seeding");
+        assertTrue(courseRepository.save(course).getId() > maxGenerated);
+    }
+}
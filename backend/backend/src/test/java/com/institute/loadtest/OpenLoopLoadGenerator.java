@@ -0,0 +1,169 @@
+package com.institute.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Open-loop HTTP load generator.
+ *
+ * Requests are started on a fixed schedule (the arrival rate) whether or not
+ * earlier requests have completed, and each latency is measured from the
+ * request's scheduled start rather than from when it was actually sent. A
+ * stalled server therefore shows up as queueing delay for every request that
+ * should have been sent during the stall, instead of silently lowering the
+ * request rate; this is what corrects for coordinated omission. Latencies go
+ * into one HdrHistogram per scenario.
+ */
+class OpenLoopLoadGenerator {
+
+    private final HttpClient client;
+    private final ExecutorService clientThreads;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private double totalWeight;
+
+    OpenLoopLoadGenerator(int clients) {
+        this.clientThreads = Executors.newFixedThreadPool(clients);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientThreads)
+                .build();
+    }
+
+    /**
+     * Adds a request type, picked with probability proportional to {@code weight}
+     *
+     * @param request Builds the request from a random source, e.g. to vary ids
+     */
+    OpenLoopLoadGenerator scenario(String name, double weight, Function<SplittableRandom, HttpRequest> request) {
+        scenarios.add(new Scenario(name, weight, request));
+        totalWeight += weight;
+        return this;
+    }
+
+    /**
+     * Runs the schedule for {@code warmup} without recording, then for {@code duration} with recording
+     */
+    Result run(double requestsPerSecond, Duration warmup, Duration duration, long seed) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        drive(requestsPerSecond, warmup, random, false);
+        scenarios.forEach(scenario -> scenario.recorder.reset());
+        long started = System.nanoTime();
+        long sent = drive(requestsPerSecond, duration, random, true);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        Histogram all = new Histogram(3);
+        for (Scenario scenario : scenarios) {
+            Histogram histogram = scenario.recorder.getIntervalHistogram();
+            all.add(histogram);
+            results.put(scenario.name, new ScenarioResult(histogram, scenario.errors.sum()));
+        }
+        return new Result(requestsPerSecond, sent, all.getTotalCount() / elapsedSeconds, all, results);
+    }
+
+    private long drive(double requestsPerSecond, Duration duration, SplittableRandom random, boolean record)
+            throws InterruptedException {
+        long intervalNanos = (long) (1e9 / requestsPerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        long sent = 0;
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            Scenario scenario = pick(random);
+            long scheduledAt = intended;
+            inFlight.add(client.sendAsync(scenario.request.apply(random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - scheduledAt;
+                        if (failure != null || response.statusCode() >= 400) {
+                            scenario.errors.increment();
+                        }
+                        if (record) {
+                            scenario.recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latency));
+                        }
+                    }));
+            sent++;
+            if (inFlight.size() >= 10_000) {
+                inFlight.removeIf(CompletableFuture::isDone);
+            }
+        }
+        // Let outstanding requests finish so their (possibly long) latencies are recorded
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .orTimeout(60, TimeUnit.SECONDS)
+                .join();
+        return sent;
+    }
+
+    private Scenario pick(SplittableRandom random) {
+        double r = random.nextDouble() * totalWeight;
+        for (Scenario scenario : scenarios) {
+            r -= scenario.weight;
+            if (r < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    void shutdown() {
+        clientThreads.shutdownNow();
+    }
+
+    private static final class Scenario {
+        private final String name;
+        private final double weight;
+        private final Function<SplittableRandom, HttpRequest> request;
+        // Microseconds at three significant digits, auto-resizing
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+
+        Scenario(String name, double weight, Function<SplittableRandom, HttpRequest> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+
+    record ScenarioResult(Histogram latencyMicros, long errors) {
+    }
+
+    record Result(double targetRate, long sent, double achievedRate, Histogram latencyMicros,
+                  Map<String, ScenarioResult> scenarios) {
+
+        String describe() {
+            StringBuilder text = new StringBuilder(String.format("target %.0f req/s, sent %d, achieved %.1f req/s%n",
+                    targetRate, sent, achievedRate));
+            text.append(String.format("%-16s %8s %7s %9s %9s %9s %9s%n", "scenario", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+            scenarios.forEach((name, result) -> text.append(row(name, result.latencyMicros(), result.errors())));
+            text.append(row("all", latencyMicros, scenarios.values().stream().mapToLong(ScenarioResult::errors).sum()));
+            return text.toString();
+        }
+
+        private static String row(String name, Histogram histogram, long errors) {
+            return String.format("%-16s %8d %7d %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(), errors,
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
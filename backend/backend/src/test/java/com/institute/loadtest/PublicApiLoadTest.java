@@ -0,0 +1,128 @@
+package com.institute.loadtest;
+
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of the public API against the application on a random port,
+ * seeded with synthetic courses. Excluded from the regular build; run with
+ * {@code mvn -Pload-test test}, tuning the run with system properties:
+ *
+ * <ul>
+ *   <li>{@code loadtest.courses} - synthetic catalog size (default 200)</li>
+ *   <li>{@code loadtest.rate} - arrival rate in requests per second (default 200)</li>
+ *   <li>{@code loadtest.duration} / {@code loadtest.warmup} - ISO-8601 or seconds (default 20 / 5)</li>
+ *   <li>{@code loadtest.clients} - HTTP client threads (default 64)</li>
+ *   <li>{@code loadtest.slo.p99-ms} - p99 latency SLO over all requests (default 100)</li>
+ *   <li>{@code loadtest.slo.min-throughput} - fraction of the arrival rate that must be achieved (default 0.95)</li>
+ * </ul>
+ *
+ * The latency histograms are written to target/loadtest/ in HdrHistogram log format.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "institute.synthetic.students=0",
+        "institute.synthetic.messages=0",
+        "institute.ratelimit.contact.enabled=false",
+        "logging.level.root=WARN"
+})
+@ActiveProfiles("synthetic")
+class PublicApiLoadTest {
+
+    private static final int COURSES = Integer.getInteger("loadtest.courses", 200);
+
+    @DynamicPropertySource
+    static void catalogSize(DynamicPropertyRegistry registry) {
+        registry.add("institute.synthetic.courses", () -> COURSES);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private OpenLoopLoadGenerator generator;
+
+    @AfterEach
+    void tearDown() {
+        if (generator != null) {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    void testPublicApiMeetsLatencyAndThroughputSlos() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+        Duration duration = duration("loadtest.duration", "20");
+        Duration warmup = duration("loadtest.warmup", "5");
+        int clients = Integer.getInteger("loadtest.clients", 64);
+        double p99SloMillis = Double.parseDouble(System.getProperty("loadtest.slo.p99-ms", "100"));
+        double minThroughput = Double.parseDouble(System.getProperty("loadtest.slo.min-throughput", "0.95"));
+
+        String base = "http://localhost:" + port + "/api/public";
+        generator = new OpenLoopLoadGenerator(clients)
+                .scenario("courses", 40, random -> get(base + "/courses"))
+                .scenario("course-by-id", 40, random -> get(base + "/courses/" + (1 + random.nextInt(COURSES))))
+                .scenario("institute-info", 15, random -> get(base + "/institute-info"))
+                .scenario("contact", 5, random -> HttpRequest.newBuilder(URI.create(base + "/contact"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Load Test\",\"email\":\"load"
+                                + random.nextInt(1_000_000) + "@example.com\",\"subject\":\"Enrollment\","
+                                + "\"message\":\"Generated by the load test\"}"))
+                        .build());
+
+        OpenLoopLoadGenerator.Result result = generator.run(rate, warmup, duration, 42);
+        System.out.println(result.describe());
+        writeHistograms(result);
+
+        double p99Millis = result.latencyMicros().getValueAtPercentile(99) / 1000.0;
+        result.scenarios().forEach((name, scenario) ->
+                assertEquals(0, scenario.errors(), "Requests failed in scenario " + name));
+        assertTrue(p99Millis <= p99SloMillis,
+                String.format("p99 %.2f ms exceeds the %.2f ms SLO", p99Millis, p99SloMillis));
+        assertTrue(result.achievedRate() >= rate * minThroughput,
+                String.format("Achieved %.1f req/s, below %.0f%% of the %.0f req/s arrival rate",
+                        result.achievedRate(), minThroughput * 100, rate));
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        String value = System.getProperty(property, defaultValue);
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static void writeHistograms(OpenLoopLoadGenerator.Result result) throws FileNotFoundException {
+        File directory = new File("target/loadtest");
+        directory.mkdirs();
+        try (PrintStream out = new PrintStream(new File(directory, "latency.hlog"))) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputComment("Open-loop latency in microseconds, measured from the scheduled start");
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            result.scenarios().forEach((name, scenario) -> {
+                scenario.latencyMicros().setTag(name);
+                writer.outputIntervalHistogram(scenario.latencyMicros());
+            });
+        }
+        try (PrintStream out = new PrintStream(new File(directory, "latency-all.hgrm"))) {
+            result.latencyMicros().outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
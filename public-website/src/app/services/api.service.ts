@@ -61,6 +61,16 @@ export class ApiService {
     );
   }
 
+  // Server-side full-text search; results come back ranked
+  searchCourses(query: string, limit: number = 20): Observable<Course[]> {
+    return this.http.get<Course[]>(`${this.publicUrl}/courses/search`, {
+      params: { q: query, limit }
+    }).pipe(
+      timeout(this.requestTimeout),
+      catchError(this.handleError)
+    );
+  }
+
   // Refresh courses data and update cache
   refreshCourses(): Observable<Course[]> {
     return this.http.get<Course[]>(`${this.publicUrl}/courses`).pipe(
@@ -16,6 +16,14 @@ export interface ErrorReport {
   userId?: string;
 }
 
+export interface ApiPerformanceReport {
+  endpoint: string;
+  responseTime: number;
+  status: number;
+  success: boolean;
+  timestamp: string;
+}
+
 export interface PerformanceReport {
   metrics: any;
   url: string;
@@ -36,7 +44,9 @@ export class MonitoringService implements ErrorHandler {
   
   private errorQueue: ErrorReport[] = [];
   private performanceQueue: PerformanceReport[] = [];
+  private apiPerformanceQueue: ApiPerformanceReport[] = [];
   private maxQueueSize = 50;
+  private maxApiQueueSize = 200;
   private sessionId: string;
 
   constructor(
@@ -165,6 +175,11 @@ export class MonitoringService implements ErrorHandler {
       this.sendPerformanceReports([...this.performanceQueue]);
       this.performanceQueue = [];
     }
+
+    if (this.apiPerformanceQueue.length > 0) {
+      this.sendApiPerformanceReports([...this.apiPerformanceQueue]);
+      this.apiPerformanceQueue = [];
+    }
   }
 
   private sendErrorReports(errors: ErrorReport[]): void {
@@ -309,6 +324,7 @@ export class MonitoringService implements ErrorHandler {
   clearQueues(): void {
     this.errorQueue = [];
     this.performanceQueue = [];
+    this.apiPerformanceQueue = [];
   }
 
   // Data consistency monitoring
@@ -336,19 +352,33 @@ export class MonitoringService implements ErrorHandler {
     }
   }
 
-  // API response monitoring
+  // API response monitoring: reports are batched with the other queues instead of one request per call
   trackApiResponse(endpoint: string, responseTime: number, status: number, success: boolean): void {
-    const apiData = {
+    this.apiPerformanceQueue.push({
       endpoint,
       responseTime,
       status,
       success,
-      timestamp: new Date().toISOString(),
-      sessionId: this.sessionId,
-      version: this.version
+      timestamp: new Date().toISOString()
+    });
+
+    if (this.apiPerformanceQueue.length >= this.maxApiQueueSize) {
+      this.sendApiPerformanceReports([...this.apiPerformanceQueue]);
+      this.apiPerformanceQueue = [];
+    }
+  }
+
+  private sendApiPerformanceReports(reports: ApiPerformanceReport[]): void {
+    const apiData = {
+      reports: reports.map(report => ({
+        ...report,
+        sessionId: this.sessionId,
+        version: this.version
+      })),
+      timestamp: new Date().toISOString()
     };
 
-    this.http.post(`${this.apiUrl}/monitoring/api-performance`, apiData).pipe(
+    this.http.post(`${this.apiUrl}/monitoring/api-performance/batch`, apiData).pipe(
       catchError(err => {
         console.error('Failed to send API performance data:', err);
         return of(null);